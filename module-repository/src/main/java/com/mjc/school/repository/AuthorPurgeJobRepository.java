@@ -0,0 +1,10 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.repository.model.AuthorPurgeJob;
+
+import java.util.List;
+
+public interface AuthorPurgeJobRepository extends BaseRepository<AuthorPurgeJob, Long> {
+
+    List<AuthorPurgeJob> readAllUnfinished();
+}
\ No newline at end of file
@@ -1,9 +1,17 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.repository.model.Author;
+import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorRepository extends BaseRepository<Author, Long> {
+    List<Author> readAllByIds(List<Long> ids);
+
+    List<Author> readOrCreateAllByNames(List<String> names);
+
     Optional<Author> readByNewsId(Long id);
+
+    List<Author> readAllByNameContaining(String name, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.mjc.school.repository;
+
+public interface CommentCountRepository {
+
+    void addDelta(Long newsId, long delta);
+
+    int foldDeltas(int limit);
+
+    int reconcile();
+}
\ No newline at end of file
@@ -1,10 +1,23 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.CommentCursor;
+import com.mjc.school.repository.model.CommentField;
+import com.mjc.school.repository.model.NewsField;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CommentRepository extends BaseRepository<Comment, Long> {
 
-    List<Comment> readAllByNewsId(Long id);
+    List<Comment> readAll(Pageable pageable, Set<CommentField> fields, Set<NewsField> newsFields);
+
+    List<Comment> readAllByNewsId(Long id, Pageable pageable, Set<CommentField> fields, Set<NewsField> newsFields);
+
+    List<Comment> readAllByNewsId(Long id, int offset, int limit);
+
+    List<Comment> readAllByNewsIdAfter(Long id, CommentCursor cursor, int limit);
+
+    int deleteAllByNewsIds(List<Long> newsIds);
 }
\ No newline at end of file
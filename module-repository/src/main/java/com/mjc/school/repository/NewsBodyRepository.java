@@ -0,0 +1,14 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.repository.model.NewsBody;
+
+import java.util.Optional;
+
+public interface NewsBodyRepository {
+
+    Optional<byte[]> readBodyByNewsId(Long newsId);
+
+    Optional<NewsBody> readByNewsId(Long newsId);
+
+    NewsBody save(NewsBody entity);
+}
\ No newline at end of file
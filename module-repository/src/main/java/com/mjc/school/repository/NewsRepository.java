@@ -1,11 +1,44 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsFacets;
+import com.mjc.school.repository.model.NewsField;
 import com.mjc.school.repository.model.NewsSearchQueryParam;
+import com.mjc.school.repository.model.NewsVersion;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 public interface NewsRepository extends BaseRepository<News, Long> {
+    List<News> readAll(Pageable pageable, Set<NewsField> fields);
+
+    List<News> readAllByIds(List<Long> ids);
+
     List<News> readAllByFilter(NewsSearchQueryParam filter, Pageable pageable);
+
+    List<Long> readIdsByFilter(NewsSearchQueryParam filter, Long afterId, int limit);
+
+    long countByFilter(NewsSearchQueryParam filter);
+
+    long estimateCount();
+
+    NewsFacets readFacetsByFilter(NewsSearchQueryParam filter, int limit, Duration timeout);
+
+    List<Long> readIdsByAuthorId(Long authorId, int limit);
+
+    long countByAuthorId(Long authorId);
+
+    int reassignAuthor(List<Long> ids, Long authorId);
+
+    int deleteAllByIds(List<Long> ids);
+
+    Optional<NewsVersion> readVersionById(Long id);
+
+    int addViewCounts(Map<Long, Long> views);
+
+    Map<Long, List<Long>> readTagIdsByNewsIds(List<Long> newsIds);
 }
\ No newline at end of file
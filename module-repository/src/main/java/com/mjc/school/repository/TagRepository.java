@@ -1,11 +1,24 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.repository.model.Tag;
+import com.mjc.school.repository.model.TagUsage;
 
 import java.util.List;
 
 public interface TagRepository extends BaseRepository<Tag, Long> {
     List<Tag> readAllByIds(List<Long> ids);
 
+    List<Tag> readOrCreateAllByNames(List<String> names);
+
     List<Tag> readAllByNewsId(Long id);
+
+    List<TagUsage> readAllUsages();
+
+    List<TagUsage> readAllUsagesByIds(List<Long> ids);
+
+    List<Long> readNewsIds(Long id, int limit);
+
+    int attachToNews(Long id, List<Long> newsIds);
+
+    int detachFromNews(Long id, List<Long> newsIds);
 }
\ No newline at end of file
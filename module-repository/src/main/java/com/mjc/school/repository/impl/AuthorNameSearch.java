@@ -0,0 +1,13 @@
+package com.mjc.school.repository.impl;
+
+import java.util.Locale;
+
+final class AuthorNameSearch {
+
+    private AuthorNameSearch() {
+    }
+
+    static String pattern(String name) {
+        return "%" + name.toLowerCase(Locale.ROOT) + "%";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.AuthorPurgeJobRepository;
+import com.mjc.school.repository.model.AuthorPurgeJob;
+import com.mjc.school.repository.model.PurgeJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class AuthorPurgeJobRepositoryImpl implements AuthorPurgeJobRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuthorPurgeJob> readAll(Pageable pageable) {
+        return entityManager.createQuery("SELECT j FROM AuthorPurgeJob j ORDER BY j.id DESC", AuthorPurgeJob.class)
+                .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<AuthorPurgeJob> readAllUnfinished() {
+        return entityManager.createQuery("SELECT j FROM AuthorPurgeJob j WHERE j.status IN :statuses ORDER BY j.id",
+                        AuthorPurgeJob.class)
+                .setParameter("statuses", List.of(PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING))
+                .getResultList();
+    }
+
+    @Override
+    public Optional<AuthorPurgeJob> readById(Long id) {
+        return Optional.ofNullable(entityManager.find(AuthorPurgeJob.class, id));
+    }
+
+    @Override
+    public AuthorPurgeJob create(AuthorPurgeJob entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    @Override
+    public AuthorPurgeJob update(AuthorPurgeJob entity) {
+        return entityManager.merge(entity);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return entityManager.createQuery("DELETE FROM AuthorPurgeJob j WHERE j.id = :id")
+                .setParameter("id", id)
+                .executeUpdate() > 0;
+    }
+}
\ No newline at end of file
@@ -13,6 +13,7 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Root;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -44,6 +45,30 @@ public class AuthorRepositoryImpl implements AuthorRepository {
         return typedQuery.getResultList();
     }
 
+    @Override
+    public List<Author> readAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return IdOrder.sort(ids, entityManager.createQuery("SELECT a FROM Author a WHERE a.id IN :ids", Author.class)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+
+    @Override
+    public List<Author> readOrCreateAllByNames(List<String> names) {
+        List<String> distinctNames = names.stream().distinct().toList();
+        if (distinctNames.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> ids = NameUpsert.upsert(entityManager, "author", true, distinctNames);
+        return distinctNames.stream()
+                .map(name -> Author.builder().id(ids.get(name)).name(name).build())
+                .toList();
+    }
+
     @Override
     public Optional<Author> readById(Long id) {
         return Optional.ofNullable(entityManager.find(Author.class, id));
@@ -60,6 +85,18 @@ public class AuthorRepositoryImpl implements AuthorRepository {
                 .findAny();
     }
 
+    @Override
+    public List<Author> readAllByNameContaining(String name, Pageable pageable) {
+        return entityManager.createQuery("""
+                        SELECT a FROM Author a
+                        WHERE lower(a.name) LIKE :pattern
+                        ORDER BY a.name, a.id""", Author.class)
+                .setParameter("pattern", AuthorNameSearch.pattern(name))
+                .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
     @Override
     public Author create(Author entity) {
         entityManager.persist(entity);
@@ -0,0 +1,52 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.CommentCountRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+@Repository
+public class CommentCountRepositoryImpl implements CommentCountRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void addDelta(Long newsId, long delta) {
+        entityManager.createNativeQuery("INSERT INTO news_comment_count_delta (news_id, delta) VALUES (:newsId, :delta)")
+                .setParameter("newsId", newsId)
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    @Override
+    public int foldDeltas(int limit) {
+        return ((Number) entityManager.createNativeQuery("""
+                        WITH folded AS (
+                            DELETE FROM news_comment_count_delta
+                            WHERE id IN (SELECT id FROM news_comment_count_delta ORDER BY id LIMIT :limit)
+                            RETURNING news_id, delta
+                        ), totals AS (
+                            UPDATE news n SET comment_count = n.comment_count + t.delta
+                            FROM (SELECT news_id, SUM(delta) AS delta FROM folded GROUP BY news_id) t
+                            WHERE n.id = t.news_id
+                        )
+                        SELECT COUNT(*) FROM folded""")
+                .setParameter("limit", limit)
+                .getSingleResult()).intValue();
+    }
+
+    @Override
+    public int reconcile() {
+        return entityManager.createNativeQuery("""
+                        UPDATE news n SET comment_count = s.expected
+                        FROM (SELECT n2.id,
+                                     (SELECT COUNT(*) FROM comment c WHERE c.news_id = n2.id)
+                                     - (SELECT COALESCE(SUM(d.delta), 0) FROM news_comment_count_delta d
+                                        WHERE d.news_id = n2.id) AS expected
+                              FROM news n2) s
+                        WHERE n.id = s.id AND n.comment_count <> s.expected""")
+                .executeUpdate();
+    }
+}
\ No newline at end of file
@@ -2,22 +2,34 @@ package com.mjc.school.repository.impl;
 
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.CommentCursor;
+import com.mjc.school.repository.model.CommentField;
 import com.mjc.school.repository.model.Comment_;
+import com.mjc.school.repository.model.NewsField;
+import com.mjc.school.repository.model.News_;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class CommentRepositoryImpl implements CommentRepository {
+    private static final String ID = "comment_id";
+    private static final String CONTENT = "comment_content";
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -79,9 +91,116 @@ public class CommentRepositoryImpl implements CommentRepository {
     }
 
     @Override
-    public List<Comment> readAllByNewsId(Long id) {
-        return entityManager.createQuery("SELECT c FROM Comment c WHERE c.news.id = :id", Comment.class)
+    public List<Comment> readAll(Pageable pageable, Set<CommentField> fields, Set<NewsField> newsFields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<Comment> root = criteriaQuery.from(Comment.class);
+        select(criteriaBuilder, criteriaQuery, root, fields, newsFields);
+
+        if (pageable.getSort().isSorted()) {
+            List<Order> orders = pageable.getSort().stream()
+                    .map(order -> order.isAscending() ?
+                            criteriaBuilder.asc(root.get(order.getProperty())) :
+                            criteriaBuilder.desc(root.get(order.getProperty())))
+                    .toList();
+            criteriaQuery.orderBy(orders);
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(criteriaQuery)
+                .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
+                .setMaxResults(pageable.getPageSize());
+
+        return toComments(typedQuery.getResultList(), fields, newsFields);
+    }
+
+    @Override
+    public List<Comment> readAllByNewsId(Long id, Pageable pageable, Set<CommentField> fields,
+                                         Set<NewsField> newsFields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<Comment> root = criteriaQuery.from(Comment.class);
+        select(criteriaBuilder, criteriaQuery, root, fields, newsFields);
+        criteriaQuery.where(criteriaBuilder.equal(root.get(Comment_.news).get(News_.id), id))
+                .orderBy(criteriaBuilder.asc(root.get(Comment_.createDate)), criteriaBuilder.asc(root.get(Comment_.id)));
+
+        return toComments(entityManager.createQuery(criteriaQuery)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList(), fields, newsFields);
+    }
+
+    @Override
+    public List<Comment> readAllByNewsId(Long id, int offset, int limit) {
+        return toSummaries(entityManager.createQuery("""
+                        SELECT c.id, c.content, c.createDate FROM Comment c
+                        WHERE c.news.id = :id
+                        ORDER BY c.createDate, c.id
+                        """, Tuple.class)
+                .setParameter("id", id)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    public List<Comment> readAllByNewsIdAfter(Long id, CommentCursor cursor, int limit) {
+        return toSummaries(entityManager.createQuery("""
+                        SELECT c.id, c.content, c.createDate FROM Comment c
+                        WHERE c.news.id = :id
+                        AND (c.createDate > :createDate OR (c.createDate = :createDate AND c.id > :commentId))
+                        ORDER BY c.createDate, c.id
+                        """, Tuple.class)
                 .setParameter("id", id)
-                .getResultList();
+                .setParameter("createDate", cursor.createDate())
+                .setParameter("commentId", cursor.id())
+                .setMaxResults(limit)
+                .getResultList());
+    }
+
+    @Override
+    public int deleteAllByNewsIds(List<Long> newsIds) {
+        return entityManager.createQuery("DELETE FROM Comment c WHERE c.news.id IN :newsIds")
+                .setParameter("newsIds", newsIds)
+                .executeUpdate();
+    }
+
+    private void select(CriteriaBuilder criteriaBuilder, CriteriaQuery<Tuple> criteriaQuery, Root<Comment> root,
+                        Set<CommentField> fields, Set<NewsField> newsFields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(Comment_.id).alias(ID));
+        if (fields.contains(CommentField.CONTENT)) {
+            selections.add(root.get(Comment_.content).alias(CONTENT));
+        }
+        if (fields.contains(CommentField.NEWS)) {
+            NewsProjection.select(selections, criteriaBuilder, root.join(Comment_.news, JoinType.LEFT), newsFields);
+        }
+        criteriaQuery.multiselect(selections);
+    }
+
+    private List<Comment> toSummaries(List<Tuple> tuples) {
+        return tuples.stream()
+                .map(tuple -> {
+                    Comment comment = Comment.builder()
+                            .id(tuple.get(0, Long.class))
+                            .content(tuple.get(1, String.class))
+                            .build();
+                    comment.setCreateDate(tuple.get(2, LocalDateTime.class));
+                    return comment;
+                })
+                .toList();
+    }
+
+    private List<Comment> toComments(List<Tuple> tuples, Set<CommentField> fields, Set<NewsField> newsFields) {
+        List<Comment> comments = tuples.stream()
+                .map(tuple -> Comment.builder()
+                        .id(tuple.get(ID, Long.class))
+                        .content(fields.contains(CommentField.CONTENT) ? tuple.get(CONTENT, String.class) : null)
+                        .news(fields.contains(CommentField.NEWS) ? NewsProjection.toNews(tuple, newsFields) : null)
+                        .build())
+                .toList();
+        if (fields.contains(CommentField.NEWS)) {
+            NewsProjection.fetchTags(entityManager, comments.stream().map(Comment::getNews).toList(), newsFields);
+        }
+        return comments;
     }
-}
+}
\ No newline at end of file
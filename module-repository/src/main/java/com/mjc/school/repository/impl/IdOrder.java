@@ -0,0 +1,25 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.model.BaseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class IdOrder {
+
+    private IdOrder() {
+    }
+
+    static <T extends BaseEntity<Long>> List<T> sort(List<Long> ids, List<T> entities) {
+        Map<Long, T> entitiesById = entities.stream()
+                .collect(Collectors.toMap(BaseEntity::getId, Function.identity(), (first, second) -> first));
+        return ids.stream()
+                .distinct()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
\ No newline at end of file
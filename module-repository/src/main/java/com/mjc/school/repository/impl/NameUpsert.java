@@ -0,0 +1,68 @@
+package com.mjc.school.repository.impl;
+
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class NameUpsert {
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private NameUpsert() {
+    }
+
+    static Map<String, Long> upsert(EntityManager entityManager, String table, boolean audited, List<String> names) {
+        String columns = audited ? "name, created_at, updated_at" : "name";
+        String values = audited ? "name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP" : "name";
+        Map<String, Long> ids = new HashMap<>();
+        if (isPostgreSql(entityManager)) {
+            collect(ids, entityManager.createNativeQuery("""
+                            WITH input AS (SELECT unnest(CAST(ARRAY[:names] AS VARCHAR[])) AS name),
+                            inserted AS (INSERT INTO %1$s (%2$s)
+                                         SELECT %3$s FROM input
+                                         ON CONFLICT (name) DO NOTHING
+                                         RETURNING id, name)
+                            SELECT id, name FROM inserted
+                            UNION ALL
+                            SELECT t.id, t.name FROM %1$s t JOIN input i ON t.name = i.name"""
+                            .formatted(table, columns, values))
+                    .setParameter("names", names)
+                    .getResultList());
+        } else {
+            entityManager.createNativeQuery("""
+                            MERGE INTO %1$s t
+                            USING (SELECT x AS name FROM UNNEST(ARRAY[:names]) AS u(x)) s
+                            ON t.name = s.name
+                            WHEN NOT MATCHED THEN INSERT (%2$s) VALUES (%3$s)"""
+                            .formatted(table, columns, values.replace("name", "s.name")))
+                    .setParameter("names", names)
+                    .executeUpdate();
+        }
+
+        List<String> missing = names.stream()
+                .filter(name -> !ids.containsKey(name))
+                .toList();
+        if (!missing.isEmpty()) {
+            collect(ids, entityManager.createNativeQuery("SELECT id, name FROM %s WHERE name IN (:names)"
+                            .formatted(table))
+                    .setParameter("names", missing)
+                    .getResultList());
+        }
+        return ids;
+    }
+
+    static boolean isPostgreSql(EntityManager entityManager) {
+        return entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName())
+                .equals(POSTGRESQL);
+    }
+
+    private static void collect(Map<String, Long> ids, List<?> rows) {
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            ids.put((String) columns[1], ((Number) columns[0]).longValue());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.NewsBodyRepository;
+import com.mjc.school.repository.model.NewsBody;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+@Repository
+public class NewsBodyRepositoryImpl implements NewsBodyRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<byte[]> readBodyByNewsId(Long newsId) {
+        return entityManager.createQuery("SELECT b.body FROM NewsBody b WHERE b.id = :id AND b.body IS NOT NULL",
+                        byte[].class)
+                .setParameter("id", newsId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<NewsBody> readByNewsId(Long newsId) {
+        return Optional.ofNullable(entityManager.find(NewsBody.class, newsId));
+    }
+
+    @Override
+    public NewsBody save(NewsBody entity) {
+        NewsBody existing = entityManager.find(NewsBody.class, entity.getId());
+        if (existing == null) {
+            entityManager.persist(entity);
+            return entity;
+        }
+
+        existing.setBody(entity.getBody());
+        existing.setLength(entity.getLength());
+        existing.setSearchText(entity.getSearchText());
+        return existing;
+    }
+}
\ No newline at end of file
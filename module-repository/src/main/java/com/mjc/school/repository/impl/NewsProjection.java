@@ -0,0 +1,114 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.Author_;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsField;
+import com.mjc.school.repository.model.News_;
+import com.mjc.school.repository.model.Tag;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Selection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class NewsProjection {
+    private static final String ID = "news_id";
+    private static final String TITLE = "news_title";
+    private static final String CONTENT = "news_content";
+    private static final String SNIPPET = "news_snippet";
+    private static final String AUTHOR_ID = "news_author_id";
+    private static final String AUTHOR_NAME = "news_author_name";
+    private static final String COMMENT_COUNT = "news_comment_count";
+    private static final String VIEW_COUNT = "news_view_count";
+
+    private NewsProjection() {
+    }
+
+    static void select(List<Selection<?>> selections, CriteriaBuilder criteriaBuilder, From<?, News> news,
+                       Set<NewsField> fields) {
+        selections.add(news.get(News_.id).alias(ID));
+        if (fields.contains(NewsField.TITLE)) {
+            selections.add(news.get(News_.title).alias(TITLE));
+        }
+        if (fields.contains(NewsField.CONTENT)) {
+            selections.add(news.get(News_.content).alias(CONTENT));
+        }
+        if (fields.contains(NewsField.SNIPPET)) {
+            selections.add(criteriaBuilder.substring(news.get(News_.content), 1, News.SNIPPET_LENGTH).alias(SNIPPET));
+        }
+        if (fields.contains(NewsField.AUTHOR)) {
+            Join<News, Author> author = news.join(News_.author, JoinType.LEFT);
+            selections.add(author.get(Author_.id).alias(AUTHOR_ID));
+            selections.add(author.get(Author_.name).alias(AUTHOR_NAME));
+        }
+        if (fields.contains(NewsField.COMMENT_COUNT)) {
+            selections.add(news.get(News_.commentCount).alias(COMMENT_COUNT));
+        }
+        if (fields.contains(NewsField.VIEW_COUNT)) {
+            selections.add(news.get(News_.viewCount).alias(VIEW_COUNT));
+        }
+    }
+
+    static News toNews(Tuple tuple, Set<NewsField> fields) {
+        Long id = tuple.get(ID, Long.class);
+        if (id == null) {
+            return null;
+        }
+
+        News.NewsBuilder news = News.builder().id(id);
+        if (fields.contains(NewsField.TITLE)) {
+            news.title(tuple.get(TITLE, String.class));
+        }
+        if (fields.contains(NewsField.CONTENT)) {
+            news.content(tuple.get(CONTENT, String.class));
+        }
+        if (fields.contains(NewsField.SNIPPET)) {
+            news.snippet(tuple.get(SNIPPET, String.class));
+        }
+        if (fields.contains(NewsField.COMMENT_COUNT)) {
+            news.commentCount(tuple.get(COMMENT_COUNT, Long.class));
+        }
+        if (fields.contains(NewsField.VIEW_COUNT)) {
+            news.viewCount(tuple.get(VIEW_COUNT, Long.class));
+        }
+        Long authorId = fields.contains(NewsField.AUTHOR) ? tuple.get(AUTHOR_ID, Long.class) : null;
+        if (authorId != null) {
+            news.author(Author.builder()
+                    .id(authorId)
+                    .name(tuple.get(AUTHOR_NAME, String.class))
+                    .build());
+        }
+        return news.build();
+    }
+
+    static void fetchTags(EntityManager entityManager, List<News> news, Set<NewsField> fields) {
+        if (!fields.contains(NewsField.TAGS)) {
+            return;
+        }
+
+        Map<Long, List<News>> newsById = news.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(News::getId));
+        if (newsById.isEmpty()) {
+            return;
+        }
+
+        entityManager.createQuery("""
+                        SELECT n.id, t FROM News n
+                        JOIN n.tags t
+                        WHERE n.id IN :ids""", Object[].class)
+                .setParameter("ids", newsById.keySet())
+                .getResultList()
+                .forEach(row -> newsById.get((Long) row[0])
+                        .forEach(item -> item.getTags().add((Tag) row[1])));
+    }
+}
\ No newline at end of file
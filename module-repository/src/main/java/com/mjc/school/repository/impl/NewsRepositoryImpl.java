@@ -2,40 +2,80 @@ package com.mjc.school.repository.impl;
 
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.model.*;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.QueryTimeoutException;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
 
 @Repository
 public class NewsRepositoryImpl implements NewsRepository {
 
+    private static final Set<NewsField> LIST_FIELDS =
+            EnumSet.of(NewsField.ID, NewsField.TITLE, NewsField.SNIPPET, NewsField.AUTHOR, NewsField.COMMENT_COUNT,
+                    NewsField.VIEW_COUNT);
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public List<News> readAll(Pageable pageable) {
+        return readAll(pageable, LIST_FIELDS);
+    }
+
+    @Override
+    public List<News> readAll(Pageable pageable, Set<NewsField> fields) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<News> criteriaQuery = criteriaBuilder.createQuery(News.class);
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
         Root<News> root = criteriaQuery.from(News.class);
-        root.fetch(News_.author);
+        List<Selection<?>> selections = new ArrayList<>();
+        NewsProjection.select(selections, criteriaBuilder, root, fields);
 
         if (pageable.getSort().isSorted()) {
             criteriaQuery.orderBy(getOrders(pageable, criteriaBuilder, root));
         }
 
-        criteriaQuery.select(root);
-        TypedQuery<News> typedQuery = entityManager.createQuery(criteriaQuery)
+        criteriaQuery.multiselect(selections);
+        List<News> news = entityManager.createQuery(criteriaQuery)
                 .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
-                .setMaxResults(pageable.getPageSize());
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(tuple -> NewsProjection.toNews(tuple, fields))
+                .toList();
+        NewsProjection.fetchTags(entityManager, news, fields);
+        return news;
+    }
 
-        return typedQuery.getResultList();
+    @Override
+    public List<News> readAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return IdOrder.sort(ids, entityManager.createQuery("""
+                        SELECT n FROM News n
+                        LEFT JOIN FETCH n.author
+                        WHERE n.id IN :ids""", News.class)
+                .setParameter("ids", ids)
+                .getResultList());
     }
 
     @Override
@@ -44,7 +84,12 @@ public class NewsRepositoryImpl implements NewsRepository {
         CriteriaQuery<News> criteriaQuery = cb.createQuery(News.class);
         Root<News> news = criteriaQuery.from(News.class);
 
-        List<Predicate> predicates = getPredicates(filter, cb, news);
+        List<Predicate> predicates = getPredicates(filter, cb, criteriaQuery, news);
+        news.fetch(News_.tags, JoinType.LEFT);
+
+        if (filter.getAuthorName() != null) {
+            news.fetch(News_.author);
+        }
 
         criteriaQuery.select(news)
                 .where(predicates.toArray(Predicate[]::new));
@@ -60,32 +105,142 @@ public class NewsRepositoryImpl implements NewsRepository {
         return typedQuery.getResultList();
     }
 
-    private List<Predicate> getPredicates(NewsSearchQueryParam filter, CriteriaBuilder cb, Root<News> news) {
+    @Override
+    public List<Long> readIdsByFilter(NewsSearchQueryParam filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = cb.createQuery(Long.class);
+        Root<News> news = criteriaQuery.from(News.class);
+
+        List<Predicate> predicates = getPredicates(filter, cb, criteriaQuery, news);
+        predicates.add(cb.greaterThan(news.get(News_.id), afterId));
+
+        criteriaQuery.select(news.get(News_.id))
+                .distinct(true)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(news.get(News_.id)));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countByFilter(NewsSearchQueryParam filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = cb.createQuery(Long.class);
+        Root<News> news = criteriaQuery.from(News.class);
+
+        List<Predicate> predicates = getPredicates(filter, cb, criteriaQuery, news);
+        criteriaQuery.select(cb.countDistinct(news.get(News_.id)))
+                .where(predicates.toArray(Predicate[]::new));
+
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    @Override
+    public long estimateCount() {
+        if (NameUpsert.isPostgreSql(entityManager)) {
+            long estimate = ((Number) entityManager.createNativeQuery(
+                            "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('news' AS regclass)")
+                    .getSingleResult()).longValue();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        }
+
+        return entityManager.createQuery("SELECT COUNT(n) FROM News n", Long.class).getSingleResult();
+    }
+
+    @Override
+    public NewsFacets readFacetsByFilter(NewsSearchQueryParam filter, int limit, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean postgreSql = NameUpsert.isPostgreSql(entityManager);
+        List<FacetCount> tags = readFacets(filter, limit, deadline, postgreSql, news -> news.join(News_.tags));
+        return new NewsFacets(tags, readFacets(filter, limit, deadline, postgreSql, news -> news.join(News_.author)));
+    }
+
+    private List<FacetCount> readFacets(NewsSearchQueryParam filter, int limit, long deadline, boolean postgreSql,
+                                        Function<Root<News>, Join<News, ?>> facet) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new QueryTimeoutException("News facet time budget exhausted");
+        }
+        if (postgreSql) {
+            entityManager.createNativeQuery("SELECT set_config('statement_timeout', :timeout, true)")
+                    .setParameter("timeout", Long.toString(Duration.ofNanos(remaining).plusNanos(999_999).toMillis()))
+                    .getSingleResult();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = cb.createTupleQuery();
+        Root<News> news = criteriaQuery.from(News.class);
+
+        List<Predicate> predicates = getPredicates(filter, cb, criteriaQuery, news);
+        Join<News, ?> join = facet.apply(news);
+        Expression<Long> count = cb.countDistinct(news.get(News_.id));
+
+        criteriaQuery.multiselect(join.get("id"), join.get("name"), count)
+                .where(predicates.toArray(Predicate[]::new))
+                .groupBy(join.get("id"), join.get("name"))
+                .orderBy(cb.desc(count), cb.asc(join.get("id")));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setHint(QueryHints.TIMEOUT_HIBERNATE, (int) Math.max(1, Duration.ofNanos(remaining).plusMillis(999).toSeconds()))
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> new FacetCount(tuple.get(0, Long.class), tuple.get(1, String.class),
+                        tuple.get(2, Long.class)))
+                .toList();
+    }
+
+    private List<Predicate> getPredicates(NewsSearchQueryParam filter, CriteriaBuilder cb, AbstractQuery<?> query,
+                                          Root<News> news) {
         List<Predicate> predicates = new ArrayList<>();
 
         if (filter.getContent() != null) {
-            predicates.add(cb.like(cb.lower(news.get(News_.content)), "%" + filter.getContent().toLowerCase() + "%"));
+            String pattern = "%" + filter.getContent().toLowerCase(Locale.ROOT) + "%";
+            Subquery<Long> body = query.subquery(Long.class);
+            Root<NewsBody> newsBody = body.from(NewsBody.class);
+            body.select(newsBody.get(NewsBody_.id))
+                    .where(cb.equal(newsBody.get(NewsBody_.id), news.get(News_.id)),
+                            cb.like(newsBody.get(NewsBody_.searchText), pattern));
+            predicates.add(cb.exists(body));
+        }
+
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(news.get(News_.createDate), filter.getCreatedFrom()));
+        }
+
+        if (filter.getCreatedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(news.get(News_.createDate), filter.getCreatedTo()));
+        }
+
+        if (filter.getUpdatedSince() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(news.get(News_.lastUpdatedDate), filter.getUpdatedSince()));
         }
 
         if (filter.getTitle() != null) {
-            predicates.add(cb.like(cb.lower(news.get(News_.title)), "%" + filter.getTitle().toLowerCase() + "%"));
+            predicates.add(cb.like(cb.lower(news.get(News_.title)), "%" + filter.getTitle().toLowerCase(Locale.ROOT) + "%"));
         }
 
         if (filter.getAuthorName() != null) {
-            Join<News, Author> author = news.join(News_.author);
-            news.fetch(News_.author);
-            predicates.add(cb.like(cb.lower(author.get(Author_.name)), "%" + filter.getAuthorName().toLowerCase() + "%"));
+            Subquery<Long> authorIds = query.subquery(Long.class);
+            Root<Author> author = authorIds.from(Author.class);
+            authorIds.select(author.get(Author_.id))
+                    .where(cb.like(cb.lower(author.get(Author_.name)), AuthorNameSearch.pattern(filter.getAuthorName())));
+            predicates.add(news.get(News_.author).get(Author_.id).in(authorIds));
         }
 
-        Join<Object, Object> tag = news.join(News_.TAGS);
-        news.fetch(News_.tags);
+        if (!filter.getTagIds().isEmpty() || !filter.getTagNames().isEmpty()) {
+            Join<News, Tag> tag = news.join(News_.tags);
 
-        if (!filter.getTagIds().isEmpty()) {
-            predicates.add(tag.get(Tag_.ID).in(filter.getTagIds()));
-        }
+            if (!filter.getTagIds().isEmpty()) {
+                predicates.add(tag.get(Tag_.id).in(filter.getTagIds()));
+            }
 
-        if (!filter.getTagNames().isEmpty()) {
-            predicates.add(tag.get(Tag_.NAME).in(filter.getTagNames()));
+            if (!filter.getTagNames().isEmpty()) {
+                predicates.add(tag.get(Tag_.name).in(filter.getTagNames()));
+            }
         }
 
         return predicates;
@@ -127,6 +282,95 @@ public class NewsRepositoryImpl implements NewsRepository {
                 .executeUpdate() > 0;
     }
 
+    @Override
+    public List<Long> readIdsByAuthorId(Long authorId, int limit) {
+        return entityManager.createQuery("SELECT n.id FROM News n WHERE n.author.id = :authorId ORDER BY n.id", Long.class)
+                .setParameter("authorId", authorId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countByAuthorId(Long authorId) {
+        return entityManager.createQuery("SELECT COUNT(n) FROM News n WHERE n.author.id = :authorId", Long.class)
+                .setParameter("authorId", authorId)
+                .getSingleResult();
+    }
+
+    @Override
+    public int reassignAuthor(List<Long> ids, Long authorId) {
+        return entityManager.createQuery("""
+                        UPDATE News n SET n.author = :author,
+                        n.lastUpdatedDate = :lastUpdatedDate
+                        WHERE n.id IN :ids
+                        """)
+                .setParameter("author", entityManager.getReference(Author.class, authorId))
+                .setParameter("lastUpdatedDate", LocalDateTime.now())
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteAllByIds(List<Long> ids) {
+        entityManager.createNativeQuery("DELETE FROM news_tag WHERE news_id IN (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return entityManager.createQuery("DELETE FROM News n WHERE n.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public Optional<NewsVersion> readVersionById(Long id) {
+        return Optional.of(entityManager.createQuery("""
+                                SELECT new com.mjc.school.repository.model.NewsVersion(MAX(n.lastUpdatedDate), COUNT(n),
+                                    SUM(n.commentCount), SUM(n.viewCount))
+                                FROM News n
+                                WHERE n.id = :id""", NewsVersion.class)
+                        .setParameter("id", id)
+                        .getSingleResult())
+                .filter(version -> version.count() > 0);
+    }
+
+    @Override
+    public int addViewCounts(Map<Long, Long> views) {
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < views.size(); i++) {
+            values.add("(CAST(?" + (2 * i + 1) + " AS BIGINT), CAST(?" + (2 * i + 2) + " AS BIGINT))");
+        }
+        Query query = entityManager.createNativeQuery("""
+                UPDATE news n SET view_count = n.view_count + v.delta
+                FROM (VALUES %s) AS v (id, delta)
+                WHERE n.id = v.id""".formatted(values));
+        int position = 1;
+        for (Map.Entry<Long, Long> view : views.entrySet()) {
+            query.setParameter(position++, view.getKey());
+            query.setParameter(position++, view.getValue());
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public Map<Long, List<Long>> readTagIdsByNewsIds(List<Long> newsIds) {
+        if (newsIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Long>> tagIds = new HashMap<>();
+        entityManager.createQuery("""
+                        SELECT n.id, t.id FROM News n
+                        JOIN n.tags t
+                        WHERE n.id IN :ids""", Object[].class)
+                .setParameter("ids", newsIds)
+                .getResultList()
+                .forEach(row -> tagIds.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]));
+        return tagIds;
+    }
+
     private List<Order> getOrders(Pageable pageable, CriteriaBuilder criteriaBuilder, Root<News> root) {
         return pageable.getSort().stream()
                 .map(order -> order.isAscending() ?
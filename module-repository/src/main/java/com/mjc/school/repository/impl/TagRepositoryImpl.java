@@ -2,6 +2,7 @@ package com.mjc.school.repository.impl;
 
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.model.Tag;
+import com.mjc.school.repository.model.TagUsage;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +14,7 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Root;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -46,9 +48,26 @@ public class TagRepositoryImpl implements TagRepository {
 
     @Override
     public List<Tag> readAllByIds(List<Long> ids) {
-        return entityManager.createQuery("SELECT t FROM Tag t WHERE t.id IN :ids", Tag.class)
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return IdOrder.sort(ids, entityManager.createQuery("SELECT t FROM Tag t WHERE t.id IN :ids", Tag.class)
                 .setParameter("ids", ids)
-                .getResultList();
+                .getResultList());
+    }
+
+    @Override
+    public List<Tag> readOrCreateAllByNames(List<String> names) {
+        List<String> distinctNames = names.stream().distinct().toList();
+        if (distinctNames.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> ids = NameUpsert.upsert(entityManager, "tag", false, distinctNames);
+        return distinctNames.stream()
+                .map(name -> Tag.builder().id(ids.get(name)).name(name).build())
+                .toList();
     }
 
     @Override
@@ -61,6 +80,60 @@ public class TagRepositoryImpl implements TagRepository {
                 .getResultList();
     }
 
+    @Override
+    public List<TagUsage> readAllUsages() {
+        return entityManager.createQuery("""
+                        SELECT new com.mjc.school.repository.model.TagUsage(t.id, t.name, COUNT(n))
+                        FROM Tag t
+                        LEFT JOIN t.news n
+                        GROUP BY t.id, t.name""", TagUsage.class)
+                .getResultList();
+    }
+
+    @Override
+    public List<TagUsage> readAllUsagesByIds(List<Long> ids) {
+        return entityManager.createQuery("""
+                        SELECT new com.mjc.school.repository.model.TagUsage(t.id, t.name, COUNT(n))
+                        FROM Tag t
+                        LEFT JOIN t.news n
+                        WHERE t.id IN :ids
+                        GROUP BY t.id, t.name""", TagUsage.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> readNewsIds(Long id, int limit) {
+        return entityManager.createQuery("""
+                        SELECT n.id FROM News n
+                        JOIN n.tags t
+                        WHERE t.id = :id
+                        ORDER BY n.id""", Long.class)
+                .setParameter("id", id)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int attachToNews(Long id, List<Long> newsIds) {
+        return entityManager.createNativeQuery("""
+                        INSERT INTO news_tag(news_id, tag_id)
+                        SELECT n.id, :id FROM news n
+                        WHERE n.id IN (:newsIds)
+                        AND NOT EXISTS (SELECT 1 FROM news_tag nt WHERE nt.news_id = n.id AND nt.tag_id = :id)""")
+                .setParameter("id", id)
+                .setParameter("newsIds", newsIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int detachFromNews(Long id, List<Long> newsIds) {
+        return entityManager.createNativeQuery("DELETE FROM news_tag WHERE tag_id = :id AND news_id IN (:newsIds)")
+                .setParameter("id", id)
+                .setParameter("newsIds", newsIds)
+                .executeUpdate();
+    }
+
     @Override
     public Optional<Tag> readById(Long id) {
         return Optional.ofNullable(entityManager.find(Tag.class, id));
@@ -0,0 +1,30 @@
+package com.mjc.school.repository.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@EqualsAndHashCode(callSuper = true)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "author_purge_job")
+public class AuthorPurgeJob extends AuditingEntity<Long> {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+    @Column(name = "target_author_id")
+    private Long targetAuthorId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PurgeJobStatus status;
+    @Column(name = "processed_news", nullable = false)
+    private long processedNews;
+    @Column(name = "total_news", nullable = false)
+    private long totalNews;
+}
\ No newline at end of file
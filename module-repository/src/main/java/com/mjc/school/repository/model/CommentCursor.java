@@ -0,0 +1,6 @@
+package com.mjc.school.repository.model;
+
+import java.time.LocalDateTime;
+
+public record CommentCursor(LocalDateTime createDate, Long id) {
+}
\ No newline at end of file
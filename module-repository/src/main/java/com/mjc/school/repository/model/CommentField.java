@@ -0,0 +1,27 @@
+package com.mjc.school.repository.model;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+public enum CommentField {
+    ID, CONTENT, NEWS;
+
+    private static final Map<String, CommentField> PUBLIC_NAMES = Map.of(
+            "id", ID,
+            "content", CONTENT,
+            "news", NEWS);
+
+    public static Set<CommentField> fromNames(Collection<String> names) {
+        Set<CommentField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            CommentField field = PUBLIC_NAMES.get(name);
+            if (field == null) {
+                throw new UnknownFieldException(name);
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+}
\ No newline at end of file
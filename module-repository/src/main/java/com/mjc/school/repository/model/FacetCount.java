@@ -0,0 +1,4 @@
+package com.mjc.school.repository.model;
+
+public record FacetCount(Long id, String name, Long count) {
+}
\ No newline at end of file
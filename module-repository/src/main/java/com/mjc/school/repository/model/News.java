@@ -14,6 +14,8 @@ import java.util.List;
 @Entity
 @Table(name = "news")
 public class News extends AuditingEntity<Long> {
+    public static final int SNIPPET_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
@@ -22,6 +24,14 @@ public class News extends AuditingEntity<Long> {
     private String title;
     @Column(name = "content", nullable = false)
     private String content;
+    @Transient
+    private String snippet;
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Long commentCount = 0L;
+    @Builder.Default
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    private Long viewCount = 0L;
     @JoinColumn(name = "author_id")
     @ManyToOne
     private Author author;
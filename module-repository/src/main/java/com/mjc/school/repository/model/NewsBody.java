@@ -0,0 +1,26 @@
+package com.mjc.school.repository.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@EqualsAndHashCode(callSuper = true)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "news_body")
+public class NewsBody extends AuditingEntity<Long> {
+    @Id
+    @Column(name = "news_id")
+    private Long id;
+    @ToString.Exclude
+    @Column(name = "body")
+    private byte[] body;
+    @Column(name = "length", nullable = false)
+    private int length;
+    @ToString.Exclude
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+}
\ No newline at end of file
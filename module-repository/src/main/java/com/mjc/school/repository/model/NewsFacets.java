@@ -0,0 +1,6 @@
+package com.mjc.school.repository.model;
+
+import java.util.List;
+
+public record NewsFacets(List<FacetCount> tags, List<FacetCount> authors) {
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.mjc.school.repository.model;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+public enum NewsField {
+    ID, TITLE, CONTENT, SNIPPET, AUTHOR, TAGS, COMMENT_COUNT, VIEW_COUNT;
+
+    private static final Map<String, NewsField> PUBLIC_NAMES = Map.ofEntries(
+            Map.entry("id", ID),
+            Map.entry("title", TITLE),
+            Map.entry("content", CONTENT),
+            Map.entry("snippet", SNIPPET),
+            Map.entry("author", AUTHOR),
+            Map.entry("author.id", AUTHOR),
+            Map.entry("author.name", AUTHOR),
+            Map.entry("tags", TAGS),
+            Map.entry("tags.id", TAGS),
+            Map.entry("tags.name", TAGS),
+            Map.entry("commentCount", COMMENT_COUNT),
+            Map.entry("viewCount", VIEW_COUNT));
+
+    public static Set<NewsField> fromNames(Collection<String> names) {
+        Set<NewsField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            NewsField field = PUBLIC_NAMES.get(name);
+            if (field == null) {
+                throw new UnknownFieldException(name);
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.mjc.school.repository.model;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,4 +17,7 @@ public class NewsSearchQueryParam {
     private List<Long> tagIds = new ArrayList<>();
     @Builder.Default
     private List<String> tagNames = new ArrayList<>();
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedSince;
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.mjc.school.repository.model;
+
+import java.time.LocalDateTime;
+
+public record NewsVersion(LocalDateTime lastUpdatedDate, Long count, Long commentCount, Long viewCount) {
+}
\ No newline at end of file
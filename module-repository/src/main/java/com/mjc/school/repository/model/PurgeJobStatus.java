@@ -0,0 +1,8 @@
+package com.mjc.school.repository.model;
+
+public enum PurgeJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
\ No newline at end of file
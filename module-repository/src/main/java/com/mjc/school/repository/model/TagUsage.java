@@ -0,0 +1,4 @@
+package com.mjc.school.repository.model;
+
+public record TagUsage(Long id, String name, Long newsCount) {
+}
\ No newline at end of file
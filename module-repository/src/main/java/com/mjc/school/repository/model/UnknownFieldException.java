@@ -0,0 +1,8 @@
+package com.mjc.school.repository.model;
+
+public class UnknownFieldException extends RuntimeException {
+
+    public UnknownFieldException(String field) {
+        super("Unknown field: " + field);
+    }
+}
\ No newline at end of file
@@ -93,6 +93,10 @@ VALUES ('GENERAL PROVISIONS', 'A Nigerian boy solves a 30-year math equation, is
         announcing his baby girls remission.',
         'A secret decoration mission that helped this widow rediscover her holiday spirit.', 1, NOW(), NOW());
 
+INSERT INTO news_body(news_id, length, search_text, created_at, updated_at)
+SELECT id, 0, lower(content), created_at, updated_at
+FROM news;
+
 INSERT INTO tag(name)
 VALUES ('News'),
        ('Entertainment'),
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS news_body_search_text_idx ON news_body USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS author_name_trgm_idx ON author USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS news_created_at_brin_idx ON news USING brin (created_at);
\ No newline at end of file
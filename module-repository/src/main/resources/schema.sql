@@ -1,4 +1,7 @@
+DROP TABLE IF EXISTS author_purge_job;
 DROP TABLE IF EXISTS news_tag;
+DROP TABLE IF EXISTS news_body;
+DROP TABLE IF EXISTS news_comment_count_delta;
 DROP TABLE IF EXISTS comment;
 DROP TABLE IF EXISTS news;
 DROP TABLE IF EXISTS author;
@@ -20,12 +23,14 @@ CREATE TABLE IF NOT EXISTS tag
 
 CREATE TABLE IF NOT EXISTS news
 (
-    id         BIGSERIAL PRIMARY KEY,
-    title      VARCHAR(255) NOT NULL,
-    content    VARCHAR(255) NOT NULL,
-    author_id  BIGINT       REFERENCES author (id) ON DELETE SET NULL,
-    created_at TIMESTAMP    NOT NULL,
-    updated_at TIMESTAMP    NOT NULL
+    id            BIGSERIAL PRIMARY KEY,
+    title         VARCHAR(255) NOT NULL,
+    content       VARCHAR(255) NOT NULL,
+    author_id     BIGINT       REFERENCES author (id) ON DELETE SET NULL,
+    comment_count BIGINT       NOT NULL DEFAULT 0,
+    view_count    BIGINT       NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP    NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL
 );
 
 CREATE TABLE IF NOT EXISTS news_tag
@@ -35,6 +40,16 @@ CREATE TABLE IF NOT EXISTS news_tag
     PRIMARY KEY (news_id, tag_id)
 );
 
+CREATE TABLE IF NOT EXISTS news_body
+(
+    news_id     BIGINT PRIMARY KEY REFERENCES news (id) ON DELETE CASCADE,
+    body        BYTEA,
+    length      INT       NOT NULL,
+    search_text TEXT      NOT NULL,
+    created_at  TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP NOT NULL
+);
+
 CREATE TABLE IF NOT EXISTS comment
 (
     id         BIGSERIAL PRIMARY KEY,
@@ -42,4 +57,33 @@ CREATE TABLE IF NOT EXISTS comment
     news_id    BIGINT REFERENCES news (id) ON DELETE CASCADE,
     created_at TIMESTAMP    NOT NULL,
     updated_at TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS news_comment_count_delta
+(
+    id      BIGSERIAL PRIMARY KEY,
+    news_id BIGINT NOT NULL REFERENCES news (id) ON DELETE CASCADE,
+    delta   BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS news_author_id_idx ON news (author_id);
+
+CREATE INDEX IF NOT EXISTS news_updated_at_idx ON news (updated_at);
+
+CREATE INDEX IF NOT EXISTS news_comment_count_idx ON news (comment_count);
+
+CREATE INDEX IF NOT EXISTS news_view_count_idx ON news (view_count, id);
+
+CREATE INDEX IF NOT EXISTS comment_news_created_idx ON comment (news_id, created_at, id);
+
+CREATE TABLE IF NOT EXISTS author_purge_job
+(
+    id               BIGSERIAL PRIMARY KEY,
+    author_id        BIGINT      NOT NULL,
+    target_author_id BIGINT,
+    status           VARCHAR(16) NOT NULL,
+    processed_news   BIGINT      NOT NULL,
+    total_news       BIGINT      NOT NULL,
+    created_at       TIMESTAMP   NOT NULL,
+    updated_at       TIMESTAMP   NOT NULL
 );
\ No newline at end of file
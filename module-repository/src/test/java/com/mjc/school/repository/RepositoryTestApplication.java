@@ -0,0 +1,7 @@
+package com.mjc.school.repository;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class RepositoryTestApplication {
+}
\ No newline at end of file
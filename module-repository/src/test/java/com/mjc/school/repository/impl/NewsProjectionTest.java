@@ -0,0 +1,53 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.Tuple;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsProjectionTest {
+    @Mock
+    private Tuple tuple;
+
+    @Test
+    void toNewsFillsProjectedColumns() {
+        doReturn(1L).when(tuple).get("news_id", Long.class);
+        doReturn(2L).when(tuple).get("news_author_id", Long.class);
+        doReturn("author1").when(tuple).get("news_author_name", String.class);
+        doReturn(3L).when(tuple).get("news_comment_count", Long.class);
+        doReturn(4L).when(tuple).get("news_view_count", Long.class);
+        Set<NewsField> fields = NewsField.fromNames(List.of("author.name", "commentCount", "viewCount"));
+
+        News actualResult = NewsProjection.toNews(tuple, fields);
+
+        assertThat(actualResult.getId()).isEqualTo(1L);
+        assertThat(actualResult.getAuthor().getId()).isEqualTo(2L);
+        assertThat(actualResult.getAuthor().getName()).isEqualTo("author1");
+        assertThat(actualResult.getCommentCount()).isEqualTo(3L);
+        assertThat(actualResult.getViewCount()).isEqualTo(4L);
+        assertThat(actualResult.getTitle()).isNull();
+    }
+
+    @Test
+    void toNewsReadsOnlyTheIdByDefault() {
+        doReturn(1L).when(tuple).get("news_id", Long.class);
+
+        News actualResult = NewsProjection.toNews(tuple, NewsField.fromNames(List.of()));
+
+        assertThat(actualResult.getId()).isEqualTo(1L);
+        assertThat(actualResult.getAuthor()).isNull();
+        verify(tuple).get(anyString(), eq(Long.class));
+        verifyNoMoreInteractions(tuple);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.FacetCount;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsFacets;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import com.mjc.school.repository.model.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.QueryTimeoutException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(NewsRepositoryImpl.class)
+class NewsRepositoryImplTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private NewsRepositoryImpl newsRepository;
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(Author.builder().name("author1").build());
+        Tag tag = entityManager.persist(Tag.builder().name("tag1").build());
+        News tagged = buildNews("title tagged");
+        tagged.addTag(tag);
+        entityManager.persist(tagged);
+        entityManager.persist(buildNews("title untagged"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void readAllByFilterIncludesUntaggedNews() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().title("title").build();
+
+        assertThat(newsRepository.readAllByFilter(filter, PageRequest.of(0, 10)))
+                .extracting(News::getTitle)
+                .containsExactlyInAnyOrder("title tagged", "title untagged");
+        assertThat(newsRepository.countByFilter(filter)).isEqualTo(2);
+    }
+
+    @Test
+    void readFacetsByFilterCountsUntaggedNewsByAuthor() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().title("title").build();
+
+        NewsFacets actualResult = newsRepository.readFacetsByFilter(filter, 10, Duration.ofSeconds(5));
+
+        assertThat(actualResult.tags()).extracting(FacetCount::count).containsExactly(1L);
+        assertThat(actualResult.authors()).containsExactly(new FacetCount(author.getId(), "author1", 2L));
+    }
+
+    @Test
+    void readFacetsByFilterRejectsExhaustedBudget() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().title("title").build();
+
+        assertThatThrownBy(() -> newsRepository.readFacetsByFilter(filter, 10, Duration.ZERO))
+                .isInstanceOf(QueryTimeoutException.class);
+    }
+
+    private News buildNews(String title) {
+        News news = News.builder()
+                .title(title)
+                .content("content")
+                .build();
+        news.setAuthor(author);
+        return news;
+    }
+}
\ No newline at end of file
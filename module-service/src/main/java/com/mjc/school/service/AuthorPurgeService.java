@@ -0,0 +1,12 @@
+package com.mjc.school.service;
+
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
+
+import java.util.Optional;
+
+public interface AuthorPurgeService {
+
+    Optional<AuthorPurgeJobDtoResponse> purge(Long authorId, Long targetAuthorId);
+
+    Optional<AuthorPurgeJobDtoResponse> readById(Long id);
+}
\ No newline at end of file
@@ -2,10 +2,19 @@ package com.mjc.school.service;
 
 import com.mjc.school.service.dto.author.AuthorDtoRequest;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.author.AuthorNamesDtoRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorService extends BaseService<AuthorDtoRequest, AuthorDtoResponse, Long> {
 
     Optional<AuthorDtoResponse> readByNewsId(Long id);
+
+    List<AuthorDtoResponse> readAllByIds(List<Long> ids);
+
+    List<AuthorDtoResponse> readOrCreateAllByNames(AuthorNamesDtoRequest request);
+
+    List<AuthorDtoResponse> searchByName(String name, Pageable pageable);
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ public interface BaseService<T, R, K> {
 
     Optional<R> readById(K id);
 
+    Optional<R> readCurrentById(K id);
+
     R create(T createRequest);
 
     Optional<R> update(K id, T updateRequest);
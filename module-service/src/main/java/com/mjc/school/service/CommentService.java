@@ -2,10 +2,17 @@ package com.mjc.school.service;
 
 import com.mjc.school.service.dto.comment.CommentDtoRequest;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentPageDtoResponse;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CommentService extends BaseService<CommentDtoRequest, CommentDtoResponse, Long> {
 
-    List<CommentDtoResponse> readAllByNewsId(Long id);
+    List<CommentDtoResponse> readAll(Pageable pageable, Set<String> fields);
+
+    List<CommentDtoResponse> readAllByNewsId(Long id, Pageable pageable, Set<String> fields);
+
+    CommentPageDtoResponse readPageByNewsId(Long id, String cursor, Pageable pageable);
 }
\ No newline at end of file
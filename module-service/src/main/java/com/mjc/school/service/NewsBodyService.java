@@ -0,0 +1,14 @@
+package com.mjc.school.service;
+
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
+
+import java.util.Optional;
+
+public interface NewsBodyService {
+
+    Optional<byte[]> readCompressedByNewsId(Long newsId);
+
+    Optional<NewsBodyDtoResponse> update(Long newsId, String body);
+
+    void updateSearchText(Long newsId, String content);
+}
\ No newline at end of file
@@ -2,12 +2,36 @@ package com.mjc.school.service;
 
 import com.mjc.school.service.dto.news.NewsDtoRequest;
 import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFilterDtoResponse;
 import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.news.NewsVersionDtoResponse;
+import com.mjc.school.service.dto.page.PageDtoResponse;
+import com.mjc.school.service.dto.page.TotalMode;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface NewsService extends BaseService<NewsDtoRequest, NewsDtoResponse, Long> {
 
+    List<NewsDtoResponse> readAll(Pageable pageable, Set<String> fields);
+
+    PageDtoResponse<NewsDtoResponse> readPage(Pageable pageable, TotalMode totalMode);
+
+    List<NewsDtoResponse> readAllByIds(List<Long> ids);
+
+    List<NewsDtoResponse> readMostViewed(Pageable pageable);
+
+    List<NewsDtoResponse> readRelated(Long id);
+
     List<NewsDtoResponse> readAllByFilter(NewsQueryParams filter, Pageable pageable);
+
+    PageDtoResponse<NewsDtoResponse> readPageByFilter(NewsQueryParams filter, Pageable pageable, TotalMode totalMode);
+
+    NewsFilterDtoResponse readAllByFilterWithFacets(NewsQueryParams filter, Pageable pageable);
+
+    Optional<NewsVersionDtoResponse> readVersionById(Long id);
+
+    long readVersion();
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mjc.school.service;
+
+public interface NewsViewService {
+
+    void registerView(Long newsId);
+
+    void flush();
+}
\ No newline at end of file
@@ -2,10 +2,29 @@ package com.mjc.school.service;
 
 import com.mjc.school.service.dto.tag.TagDtoRequest;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.dto.tag.TagNamesDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoResponse;
+import com.mjc.school.service.dto.tag.TrendingTagDtoResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TagService extends BaseService<TagDtoRequest, TagDtoResponse, Long> {
 
     List<TagDtoResponse> readAllByNewsId(Long id);
+
+    List<TagDtoResponse> readAllByIds(List<Long> ids);
+
+    List<TrendingTagDtoResponse> readTrending();
+
+    List<TagDtoResponse> suggest(String prefix, int limit);
+
+    List<TagDtoResponse> readOrCreateAllByNames(TagNamesDtoRequest request);
+
+    Optional<TagNewsDtoResponse> attachToNews(Long id, TagNewsDtoRequest request);
+
+    Optional<TagNewsDtoResponse> detachFromNews(Long id, TagNewsDtoRequest request);
+
+    Optional<TagDtoResponse> merge(Long sourceId, Long targetId);
 }
\ No newline at end of file
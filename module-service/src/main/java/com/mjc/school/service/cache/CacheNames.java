@@ -0,0 +1,12 @@
+package com.mjc.school.service.cache;
+
+public final class CacheNames {
+    public static final String MISSING_NEWS = "missingNews";
+    public static final String MISSING_AUTHORS = "missingAuthors";
+    public static final String MISSING_TAGS = "missingTags";
+    public static final String MISSING_COMMENTS = "missingComments";
+    public static final String NEWS_TOTALS = "newsTotals";
+
+    private CacheNames() {
+    }
+}
\ No newline at end of file
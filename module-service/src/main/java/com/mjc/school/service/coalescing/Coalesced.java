@@ -0,0 +1,14 @@
+package com.mjc.school.service.coalescing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+    String value();
+
+    long timeoutMillis() default 2000;
+}
\ No newline at end of file
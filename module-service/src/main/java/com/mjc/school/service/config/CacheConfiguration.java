@@ -0,0 +1,36 @@
+package com.mjc.school.service.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mjc.school.service.cache.CacheNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.missing.ttl:30s}") Duration ttl,
+                                     @Value("${app.cache.missing.maximum-size:100000}") long maximumSize,
+                                     @Value("${app.cache.totals.ttl:5m}") Duration totalsTtl,
+                                     @Value("${app.cache.totals.maximum-size:10000}") long totalsMaximumSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheNames.MISSING_NEWS,
+                CacheNames.MISSING_AUTHORS, CacheNames.MISSING_TAGS, CacheNames.MISSING_COMMENTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize));
+        cacheManager.registerCustomCache(CacheNames.NEWS_TOTALS, Caffeine.newBuilder()
+                .expireAfterWrite(totalsTtl)
+                .maximumSize(totalsMaximumSize)
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.mjc.school.service.config;
+
+import com.mjc.school.service.facet.FacetProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(FacetProperties.class)
+public class FacetConfiguration {
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.mjc.school.service.config;
+
+import com.mjc.school.service.related.RelatedNewsIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RelatedNewsConfiguration {
+
+    @Bean
+    public RelatedNewsIndex relatedNewsIndex(@Value("${app.related.limit:10}") int limit) {
+        return new RelatedNewsIndex(limit);
+    }
+}
\ No newline at end of file
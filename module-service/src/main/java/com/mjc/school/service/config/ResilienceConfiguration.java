@@ -0,0 +1,10 @@
+package com.mjc.school.service.config;
+
+import com.mjc.school.service.resilience.ResilienceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfiguration {
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.mjc.school.service.config;
+
+import com.mjc.school.service.trending.TrendingProperties;
+import com.mjc.school.service.trending.TrendingTags;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(TrendingProperties.class)
+public class TrendingConfiguration {
+
+    @Bean
+    public TrendingTags trendingTags(TrendingProperties properties) {
+        return new TrendingTags(properties, Clock.systemUTC());
+    }
+}
\ No newline at end of file
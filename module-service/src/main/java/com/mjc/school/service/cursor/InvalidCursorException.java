@@ -0,0 +1,8 @@
+package com.mjc.school.service.cursor;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor: " + cursor);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.mjc.school.service.dto.author;
+
+import lombok.Builder;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Builder
+public record AuthorNamesDtoRequest(
+        @NotEmpty(message = "Names should not be empty")
+        @Size(max = 1000, message = "Names size should not be greater than 1000")
+        List<@NotNull(message = "Name should not be empty")
+        @Size(min = 3, max = 15, message = "Name length should be between 3 and 15 characters") String> names) {
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.mjc.school.service.dto.author;
+
+import lombok.Builder;
+
+@Builder
+public record AuthorPurgeJobDtoResponse(Long id,
+                                        Long authorId,
+                                        Long targetAuthorId,
+                                        String status,
+                                        long processedNews,
+                                        long totalNews) {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.mjc.school.service.dto.comment;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CommentPageDtoResponse(
+        List<CommentSummaryDtoResponse> content,
+        String nextCursor) {
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.mjc.school.service.dto.comment;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record CommentSummaryDtoResponse(
+        Long id,
+        String content,
+        LocalDateTime createdDate) {
+}
\ No newline at end of file
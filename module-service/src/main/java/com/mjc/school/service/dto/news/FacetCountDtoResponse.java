@@ -0,0 +1,9 @@
+package com.mjc.school.service.dto.news;
+
+import lombok.Builder;
+
+@Builder
+public record FacetCountDtoResponse(Long id,
+                                    String name,
+                                    long count) {
+}
\ No newline at end of file
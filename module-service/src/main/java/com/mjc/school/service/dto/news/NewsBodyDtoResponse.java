@@ -0,0 +1,9 @@
+package com.mjc.school.service.dto.news;
+
+import lombok.Builder;
+
+@Builder
+public record NewsBodyDtoResponse(Long newsId,
+                                  int length,
+                                  int compressedLength) {
+}
\ No newline at end of file
@@ -10,6 +10,9 @@ import java.util.List;
 public record NewsDtoResponse(Long id,
                               String title,
                               String content,
+                              String snippet,
                               AuthorDtoResponse author,
-                              List<TagDtoResponse> tags) {
+                              List<TagDtoResponse> tags,
+                              Long commentCount,
+                              Long viewCount) {
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.mjc.school.service.dto.news;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record NewsFilterDtoResponse(
+        List<NewsDtoResponse> content,
+        NewsFacetsDtoResponse facets) {
+}
\ No newline at end of file
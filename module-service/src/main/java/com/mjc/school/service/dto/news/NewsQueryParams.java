@@ -1,7 +1,9 @@
 package com.mjc.school.service.dto.news;
 
 import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Builder
@@ -9,5 +11,8 @@ public record NewsQueryParams(String title,
                               String content,
                               String authorName,
                               List<Long> tagIds,
-                              List<String> tagNames) {
+                              List<String> tagNames,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.mjc.school.service.dto.news;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record NewsVersionDtoResponse(LocalDateTime lastUpdatedDate,
+                                     long count,
+                                     Long commentCount,
+                                     Long viewCount) {
+}
\ No newline at end of file
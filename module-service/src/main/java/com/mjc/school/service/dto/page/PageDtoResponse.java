@@ -0,0 +1,14 @@
+package com.mjc.school.service.dto.page;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record PageDtoResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        long total,
+        TotalMode totalMode) {
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.mjc.school.service.dto.page;
+
+public enum TotalMode {
+    EXACT,
+    CACHED,
+    ESTIMATED
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.mjc.school.service.dto.tag;
+
+import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.validator.annotation.NewsSelection;
+import lombok.Builder;
+
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Builder
+@NewsSelection
+public record TagNewsDtoRequest(
+        @Size(max = 10000, message = "News ids size should not be greater than 10000")
+        List<Long> newsIds,
+        NewsQueryParams filter) {
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mjc.school.service.dto.tag;
+
+import lombok.Builder;
+
+@Builder
+public record TagNewsDtoResponse(Long tagId,
+                                 long affected) {
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.mjc.school.service.dto.tag;
+
+import lombok.Builder;
+
+@Builder
+public record TrendingTagDtoResponse(Long id,
+                                     String name,
+                                     long count) {
+}
\ No newline at end of file
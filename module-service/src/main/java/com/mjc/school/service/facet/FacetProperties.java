@@ -0,0 +1,15 @@
+package com.mjc.school.service.facet;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.facets")
+public class FacetProperties {
+    private Duration timeBudget = Duration.ofMillis(500);
+    private int limit = 20;
+    private int poolSize = 4;
+    private int queueCapacity = 100;
+}
\ No newline at end of file
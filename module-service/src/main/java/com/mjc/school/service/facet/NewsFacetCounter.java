@@ -0,0 +1,77 @@
+package com.mjc.school.service.facet;
+
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.NewsFacets;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+public class NewsFacetCounter implements DisposableBean {
+    private final NewsRepository newsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FacetProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public NewsFacetCounter(NewsRepository newsRepository, TransactionTemplate transactionTemplate,
+                            FacetProperties properties) {
+        this.newsRepository = newsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("news-facets-"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public Optional<NewsFacets> count(NewsSearchQueryParam filter) {
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+        CompletableFuture<NewsFacets> facets;
+        try {
+            facets = CompletableFuture.supplyAsync(() -> readFacets(filter, deadline), executor);
+        } catch (RejectedExecutionException e) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(facets.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            facets.cancel(false);
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            log.warn("Failed to count news facets", e.getCause());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private NewsFacets readFacets(NewsSearchQueryParam filter, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return null;
+        }
+        return transactionTemplate.execute(status ->
+                newsRepository.readFacetsByFilter(filter, properties.getLimit(), Duration.ofNanos(remaining)));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.AuthorPurgeJobRepository;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.AuthorPurgeJob;
+import com.mjc.school.repository.model.PurgeJobStatus;
+import com.mjc.school.service.AuthorPurgeService;
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
+import com.mjc.school.service.job.AuthorPurgeRequestedEvent;
+import com.mjc.school.service.mapper.AuthorPurgeJobMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuthorPurgeServiceImpl implements AuthorPurgeService {
+    private final AuthorRepository authorRepository;
+    private final NewsRepository newsRepository;
+    private final AuthorPurgeJobRepository authorPurgeJobRepository;
+    private final AuthorPurgeJobMapper authorPurgeJobMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public Optional<AuthorPurgeJobDtoResponse> purge(Long authorId, Long targetAuthorId) {
+        if (authorId.equals(targetAuthorId)) {
+            return Optional.empty();
+        }
+
+        return authorRepository.readById(authorId)
+                .filter(author -> targetAuthorId == null || authorRepository.readById(targetAuthorId).isPresent())
+                .map(author -> AuthorPurgeJob.builder()
+                        .authorId(authorId)
+                        .targetAuthorId(targetAuthorId)
+                        .status(PurgeJobStatus.PENDING)
+                        .totalNews(newsRepository.countByAuthorId(authorId))
+                        .build())
+                .map(authorPurgeJobRepository::create)
+                .map(job -> {
+                    eventPublisher.publishEvent(new AuthorPurgeRequestedEvent(job.getId()));
+                    return authorPurgeJobMapper.modelToDto(job);
+                });
+    }
+
+    @Override
+    public Optional<AuthorPurgeJobDtoResponse> readById(Long id) {
+        return authorPurgeJobRepository.readById(id)
+                .map(authorPurgeJobMapper::modelToDto);
+    }
+}
\ No newline at end of file
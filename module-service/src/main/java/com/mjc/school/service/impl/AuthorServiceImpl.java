@@ -3,10 +3,19 @@ package com.mjc.school.service.impl;
 import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.model.Author;
 import com.mjc.school.service.AuthorService;
+import com.mjc.school.service.cache.CacheNames;
+import com.mjc.school.service.coalescing.Coalesced;
 import com.mjc.school.service.dto.author.AuthorDtoRequest;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.author.AuthorNamesDtoRequest;
 import com.mjc.school.service.mapper.AuthorMapper;
+import com.mjc.school.service.resilience.EvictStale;
+import com.mjc.school.service.resilience.StaleWhileRevalidate;
+import com.mjc.school.service.version.NewsListChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,19 +29,44 @@ import java.util.Optional;
 public class AuthorServiceImpl implements AuthorService {
     private final AuthorRepository authorRepository;
     private final AuthorMapper authorMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @StaleWhileRevalidate("authors")
     public List<AuthorDtoResponse> readAll(Pageable pageable) {
         return authorMapper.modelListToDtoList(authorRepository.readAll(pageable));
     }
 
     @Override
+    @StaleWhileRevalidate("authors")
+    public List<AuthorDtoResponse> readAllByIds(List<Long> ids) {
+        return authorMapper.modelListToDtoList(authorRepository.readAllByIds(ids));
+    }
+
+    @Override
+    @StaleWhileRevalidate("authors")
+    public List<AuthorDtoResponse> searchByName(String name, Pageable pageable) {
+        return authorMapper.modelListToDtoList(authorRepository.readAllByNameContaining(name, pageable));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.MISSING_AUTHORS, unless = "#result != null")
+    @StaleWhileRevalidate("authors")
+    @Coalesced("authors.readById")
     public Optional<AuthorDtoResponse> readById(Long id) {
         return authorRepository.readById(id)
                 .map(authorMapper::modelToDto);
     }
 
     @Override
+    public Optional<AuthorDtoResponse> readCurrentById(Long id) {
+        return authorRepository.readById(id)
+                .map(authorMapper::modelToDto);
+    }
+
+    @Override
+    @StaleWhileRevalidate("authors")
+    @Coalesced("authors.readByNewsId")
     public Optional<AuthorDtoResponse> readByNewsId(Long id) {
         return authorRepository.readByNewsId(id)
                 .map(authorMapper::modelToDto);
@@ -40,6 +74,16 @@ public class AuthorServiceImpl implements AuthorService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MISSING_AUTHORS, allEntries = true)
+    @EvictStale({"news", "authors"})
+    public List<AuthorDtoResponse> readOrCreateAllByNames(AuthorNamesDtoRequest request) {
+        return authorMapper.modelListToDtoList(authorRepository.readOrCreateAllByNames(request.names()));
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.MISSING_AUTHORS, allEntries = true)
+    @EvictStale({"news", "authors"})
     public AuthorDtoResponse create(AuthorDtoRequest createRequest) {
         return Optional.of(createRequest)
                 .map(authorMapper::dtoToModel)
@@ -50,6 +94,8 @@ public class AuthorServiceImpl implements AuthorService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale({"news", "authors"})
     public Optional<AuthorDtoResponse> update(Long id, AuthorDtoRequest updateRequest) {
         return authorRepository.readById(id)
                 .map(model -> authorMapper.dtoToModel(updateRequest))
@@ -57,22 +103,36 @@ public class AuthorServiceImpl implements AuthorService {
                     author.setId(id);
                     return authorRepository.update(author);
                 })
-                .map(authorMapper::modelToDto);
+                .map(authorMapper::modelToDto)
+                .map(updated -> {
+                    eventPublisher.publishEvent(new NewsListChangedEvent());
+                    return updated;
+                });
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale({"news", "authors"})
     public boolean deleteById(Long id) {
-        return authorRepository.readById(id)
+        boolean deleted = authorRepository.readById(id)
                 .map(model -> authorRepository.deleteById(id))
                 .orElse(false);
+        if (deleted) {
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+        return deleted;
     }
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale({"news", "authors"})
     public AuthorDtoResponse patch(Long id, AuthorDtoRequest patchRequest) {
         Author author = authorMapper.dtoToModel(patchRequest);
         author.setId(id);
-        return authorMapper.modelToDto(authorRepository.update(author));
+        AuthorDtoResponse patched = authorMapper.modelToDto(authorRepository.update(author));
+        eventPublisher.publishEvent(new NewsListChangedEvent());
+        return patched;
     }
 }
\ No newline at end of file
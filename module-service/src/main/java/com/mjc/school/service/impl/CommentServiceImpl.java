@@ -1,25 +1,40 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.repository.CommentCountRepository;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.CommentCursor;
+import com.mjc.school.repository.model.CommentField;
+import com.mjc.school.repository.model.NewsField;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.cache.CacheNames;
+import com.mjc.school.service.coalescing.Coalesced;
+import com.mjc.school.service.cursor.CommentCursorCodec;
 import com.mjc.school.service.dto.comment.CommentDtoRequest;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentPageDtoResponse;
 import com.mjc.school.service.mapper.CommentMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
+    private static final String NEWS = "news";
+    private static final String NEWS_PREFIX = NEWS + ".";
 
     private final CommentRepository commentRepository;
+    private final CommentCountRepository commentCountRepository;
     private final CommentMapper commentMapper;
 
     @Override
@@ -28,19 +43,30 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.MISSING_COMMENTS, unless = "#result != null")
+    @Coalesced("comments.readById")
     public Optional<CommentDtoResponse> readById(Long id) {
         return commentRepository.readById(id)
                 .map(commentMapper::modelToDto);
     }
 
+    @Override
+    public Optional<CommentDtoResponse> readCurrentById(Long id) {
+        return commentRepository.readById(id)
+                .map(commentMapper::modelToDto);
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MISSING_COMMENTS, allEntries = true)
     public CommentDtoResponse create(CommentDtoRequest createRequest) {
-        return Optional.of(createRequest)
+        CommentDtoResponse created = Optional.of(createRequest)
                 .map(commentMapper::dtoToModel)
                 .map(commentRepository::create)
                 .map(commentMapper::modelToDto)
                 .orElseThrow();
+        commentCountRepository.addDelta(createRequest.newsId(), 1);
+        return created;
     }
 
     @Override
@@ -59,7 +85,13 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     public boolean deleteById(Long id) {
         return commentRepository.readById(id)
-                .map(comment -> commentRepository.deleteById(id))
+                .filter(comment -> commentRepository.deleteById(id))
+                .map(comment -> {
+                    if (comment.getNews() != null) {
+                        commentCountRepository.addDelta(comment.getNews().getId(), -1);
+                    }
+                    return true;
+                })
                 .orElse(false);
     }
 
@@ -72,7 +104,49 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public List<CommentDtoResponse> readAllByNewsId(Long id) {
-        return commentMapper.modelListToDtoList(commentRepository.readAllByNewsId(id));
+    public List<CommentDtoResponse> readAll(Pageable pageable, Set<String> fields) {
+        return commentMapper.modelListToDtoList(
+                commentRepository.readAll(pageable, commentFields(fields), newsFields(fields)));
+    }
+
+    @Override
+    public List<CommentDtoResponse> readAllByNewsId(Long id, Pageable pageable, Set<String> fields) {
+        return commentMapper.modelListToDtoList(
+                commentRepository.readAllByNewsId(id, pageable, commentFields(fields), newsFields(fields)));
+    }
+
+    @Override
+    @Coalesced("comments.readPageByNewsId")
+    public CommentPageDtoResponse readPageByNewsId(Long id, String cursor, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<Comment> comments = cursor == null ?
+                commentRepository.readAllByNewsId(id, (int) pageable.getOffset(), size + 1) :
+                commentRepository.readAllByNewsIdAfter(id, CommentCursorCodec.decode(cursor), size + 1);
+        if (comments.size() <= size) {
+            return CommentPageDtoResponse.builder()
+                    .content(commentMapper.modelListToSummaryDtoList(comments))
+                    .build();
+        }
+
+        List<Comment> page = comments.subList(0, size);
+        Comment last = page.get(size - 1);
+        return CommentPageDtoResponse.builder()
+                .content(commentMapper.modelListToSummaryDtoList(page))
+                .nextCursor(CommentCursorCodec.encode(new CommentCursor(last.getCreateDate(), last.getId())))
+                .build();
+    }
+
+    private Set<CommentField> commentFields(Set<String> fields) {
+        return CommentField.fromNames(fields.stream()
+                .map(field -> field.startsWith(NEWS_PREFIX) ? NEWS : field)
+                .toList());
+    }
+
+    private Set<NewsField> newsFields(Set<String> fields) {
+        List<String> newsFields = fields.stream()
+                .filter(field -> field.startsWith(NEWS_PREFIX))
+                .map(field -> field.substring(NEWS_PREFIX.length()))
+                .toList();
+        return newsFields.isEmpty() ? EnumSet.allOf(NewsField.class) : NewsField.fromNames(newsFields);
     }
-}
+}
\ No newline at end of file
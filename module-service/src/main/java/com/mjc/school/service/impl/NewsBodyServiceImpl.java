@@ -0,0 +1,56 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.NewsBodyRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.NewsBody;
+import com.mjc.school.service.NewsBodyService;
+import com.mjc.school.service.compression.DeflateCodec;
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
+import com.mjc.school.service.mapper.NewsBodyMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NewsBodyServiceImpl implements NewsBodyService {
+    private final NewsRepository newsRepository;
+    private final NewsBodyRepository newsBodyRepository;
+    private final NewsBodyMapper newsBodyMapper;
+
+    @Override
+    public Optional<byte[]> readCompressedByNewsId(Long newsId) {
+        return newsBodyRepository.readBodyByNewsId(newsId);
+    }
+
+    @Override
+    @Transactional
+    public Optional<NewsBodyDtoResponse> update(Long newsId, String body) {
+        return newsRepository.readById(newsId)
+                .map(news -> newsBodyRepository.save(NewsBody.builder()
+                        .id(newsId)
+                        .body(DeflateCodec.compress(body))
+                        .length(body.length())
+                        .searchText(searchText(news.getContent(), body))
+                        .build()))
+                .map(newsBodyMapper::modelToDto);
+    }
+
+    @Override
+    @Transactional
+    public void updateSearchText(Long newsId, String content) {
+        NewsBody newsBody = newsBodyRepository.readByNewsId(newsId)
+                .orElseGet(() -> NewsBody.builder().id(newsId).build());
+        String body = newsBody.getBody() == null ? null : DeflateCodec.decompressToString(newsBody.getBody());
+        newsBody.setSearchText(searchText(content, body));
+        newsBodyRepository.save(newsBody);
+    }
+
+    private static String searchText(String content, String body) {
+        return (body == null ? content : content + "\n" + body).toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
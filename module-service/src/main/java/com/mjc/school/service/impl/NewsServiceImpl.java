@@ -2,51 +2,142 @@ package com.mjc.school.service.impl;
 
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsField;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import com.mjc.school.repository.model.NewsVersion;
+import com.mjc.school.service.NewsBodyService;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.cache.CacheNames;
+import com.mjc.school.service.coalescing.Coalesced;
 import com.mjc.school.service.dto.news.NewsDtoRequest;
 import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFilterDtoResponse;
 import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.news.NewsVersionDtoResponse;
+import com.mjc.school.service.dto.page.PageDtoResponse;
+import com.mjc.school.service.dto.page.TotalMode;
+import com.mjc.school.service.facet.NewsFacetCounter;
+import com.mjc.school.service.mapper.NewsFacetMapper;
 import com.mjc.school.service.mapper.NewsFilterMapper;
 import com.mjc.school.service.mapper.NewsMapper;
+import com.mjc.school.service.page.NewsTotals;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import com.mjc.school.service.related.RelatedNewsIndex;
+import com.mjc.school.service.resilience.EvictStale;
+import com.mjc.school.service.resilience.StaleWhileRevalidate;
+import com.mjc.school.service.trending.TagUsageChangedEvent;
+import com.mjc.school.service.version.NewsListChangedEvent;
+import com.mjc.school.service.version.NewsListVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NewsServiceImpl implements NewsService {
+    private static final Sort MOST_VIEWED = Sort.by(Sort.Direction.DESC, "viewCount", "id");
+
     private final NewsRepository newsRepository;
+    private final NewsBodyService newsBodyService;
     private final NewsMapper newsMapper;
     private final NewsFilterMapper newsFilterMapper;
+    private final NewsFacetMapper newsFacetMapper;
+    private final NewsFacetCounter newsFacetCounter;
+    private final NewsTotals newsTotals;
+    private final RelatedNewsIndex relatedNewsIndex;
+    private final NewsListVersion newsListVersion;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @StaleWhileRevalidate("news")
     public List<NewsDtoResponse> readAll(Pageable pageable) {
         return newsMapper.modelListToDtoList(newsRepository.readAll(pageable));
     }
 
     @Override
+    @StaleWhileRevalidate("news")
+    public List<NewsDtoResponse> readAll(Pageable pageable, Set<String> fields) {
+        return newsMapper.fullModelListToDtoList(newsRepository.readAll(pageable, NewsField.fromNames(fields)));
+    }
+
+    @Override
+    public PageDtoResponse<NewsDtoResponse> readPage(Pageable pageable, TotalMode totalMode) {
+        return PageDtoResponse.<NewsDtoResponse>builder()
+                .content(newsMapper.modelListToDtoList(newsRepository.readAll(pageable)))
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .total(newsTotals.count(totalMode))
+                .totalMode(totalMode)
+                .build();
+    }
+
+    @Override
+    @StaleWhileRevalidate("news")
+    public List<NewsDtoResponse> readAllByIds(List<Long> ids) {
+        return newsMapper.modelListToDtoList(newsRepository.readAllByIds(ids));
+    }
+
+    @Override
+    @StaleWhileRevalidate("news")
+    public List<NewsDtoResponse> readMostViewed(Pageable pageable) {
+        return newsMapper.modelListToDtoList(newsRepository.readAll(
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), MOST_VIEWED)));
+    }
+
+    @Override
+    public List<NewsDtoResponse> readRelated(Long id) {
+        List<Long> ids = Arrays.stream(relatedNewsIndex.related(id)).boxed().toList();
+        return newsMapper.modelListToDtoList(newsRepository.readAllByIds(ids));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.MISSING_NEWS, unless = "#result != null")
+    @StaleWhileRevalidate("news")
+    @Coalesced("news.readById")
     public Optional<NewsDtoResponse> readById(Long id) {
         return newsRepository.readById(id)
                 .map(newsMapper::modelToDto);
     }
 
+    @Override
+    public Optional<NewsDtoResponse> readCurrentById(Long id) {
+        return newsRepository.readById(id)
+                .map(newsMapper::modelToDto);
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheNames.MISSING_NEWS, CacheNames.NEWS_TOTALS}, allEntries = true)
+    @EvictStale("news")
     public NewsDtoResponse create(NewsDtoRequest dtoRequest) {
-        return Optional.of(dtoRequest)
+        NewsDtoResponse created = Optional.of(dtoRequest)
                 .map(newsMapper::dtoToModel)
                 .map(newsRepository::create)
+                .map(this::updateSearchText)
                 .map(newsMapper::modelToDto)
                 .orElseThrow();
+        eventPublisher.publishEvent(new TagUsageChangedEvent(dtoRequest.tagIds(), 1));
+        eventPublisher.publishEvent(new NewsTagsChangedEvent(List.of(created.id())));
+        eventPublisher.publishEvent(new NewsListChangedEvent());
+        return created;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale("news")
     public Optional<NewsDtoResponse> update(Long id, NewsDtoRequest dtoRequest) {
         return newsRepository.readById(id)
                 .map(model -> newsMapper.dtoToModel(dtoRequest))
@@ -54,26 +145,44 @@ public class NewsServiceImpl implements NewsService {
                     news.setId(id);
                     return newsRepository.update(news);
                 })
-                .map(newsMapper::modelToDto);
+                .map(this::updateSearchText)
+                .map(newsMapper::modelToDto)
+                .map(this::publishListChanged);
     }
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale("news")
     public NewsDtoResponse patch(Long id, NewsDtoRequest dtoRequest) {
         News news = newsMapper.dtoToModel(dtoRequest);
         news.setId(id);
-        return newsMapper.modelToDto(newsRepository.update(news));
+        return Optional.ofNullable(newsRepository.update(news))
+                .map(this::updateSearchText)
+                .map(newsMapper::modelToDto)
+                .map(this::publishListChanged)
+                .orElse(null);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale("news")
     public boolean deleteById(Long id) {
-        return newsRepository.readById(id).
+        List<Long> tagIds = newsRepository.readTagIdsByNewsIds(List.of(id)).getOrDefault(id, List.of());
+        boolean deleted = newsRepository.readById(id).
                 map(newsModel -> newsRepository.deleteById(id))
                 .orElse(false);
+        if (deleted) {
+            eventPublisher.publishEvent(new TagUsageChangedEvent(tagIds, -1));
+            eventPublisher.publishEvent(new NewsTagsChangedEvent(List.of(id)));
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+        return deleted;
     }
 
     @Override
+    @StaleWhileRevalidate("news")
     public List<NewsDtoResponse> readAllByFilter(NewsQueryParams filter, Pageable pageable) {
         return Optional.ofNullable(filter)
                 .map(newsFilterMapper::dtoToModel)
@@ -81,4 +190,62 @@ public class NewsServiceImpl implements NewsService {
                 .map(newsMapper::fullModelListToDtoList)
                 .orElse(List.of());
     }
+
+    @Override
+    public PageDtoResponse<NewsDtoResponse> readPageByFilter(NewsQueryParams filter, Pageable pageable,
+                                                             TotalMode totalMode) {
+        NewsSearchQueryParam searchFilter = newsFilterMapper.dtoToModel(filter);
+        return PageDtoResponse.<NewsDtoResponse>builder()
+                .content(newsMapper.fullModelListToDtoList(newsRepository.readAllByFilter(searchFilter, pageable)))
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .total(newsTotals.count(searchFilter, totalMode))
+                .totalMode(totalMode)
+                .build();
+    }
+
+    @Override
+    @StaleWhileRevalidate("news")
+    public NewsFilterDtoResponse readAllByFilterWithFacets(NewsQueryParams filter, Pageable pageable) {
+        NewsSearchQueryParam searchFilter = newsFilterMapper.dtoToModel(filter);
+        return NewsFilterDtoResponse.builder()
+                .content(newsMapper.fullModelListToDtoList(newsRepository.readAllByFilter(searchFilter, pageable)))
+                .facets(newsFacetCounter.count(searchFilter)
+                        .map(newsFacetMapper::modelToDto)
+                        .orElse(null))
+                .build();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.MISSING_NEWS, unless = "#result != null")
+    @StaleWhileRevalidate("news")
+    @Coalesced("news.readVersionById")
+    public Optional<NewsVersionDtoResponse> readVersionById(Long id) {
+        return newsRepository.readVersionById(id)
+                .map(this::toVersionDto);
+    }
+
+    @Override
+    public long readVersion() {
+        return newsListVersion.current();
+    }
+
+    private NewsDtoResponse publishListChanged(NewsDtoResponse news) {
+        eventPublisher.publishEvent(new NewsListChangedEvent());
+        return news;
+    }
+
+    private News updateSearchText(News news) {
+        newsBodyService.updateSearchText(news.getId(), news.getContent());
+        return news;
+    }
+
+    private NewsVersionDtoResponse toVersionDto(NewsVersion version) {
+        return NewsVersionDtoResponse.builder()
+                .lastUpdatedDate(version.lastUpdatedDate())
+                .count(version.count())
+                .commentCount(version.commentCount())
+                .viewCount(version.viewCount())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.service.NewsViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsViewServiceImpl implements NewsViewService {
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    private final ConcurrentMap<Long, Long> views = new ConcurrentHashMap<>();
+    private final NewsRepository newsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void registerView(Long newsId) {
+        views.merge(newsId, 1L, Long::sum);
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.views.flush-delay:PT10S}")
+    public synchronized void flush() {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        Map<Long, Long> batch = new TreeMap<>();
+        for (Long newsId : new TreeSet<>(views.keySet())) {
+            Long count = views.remove(newsId);
+            if (count == null) {
+                continue;
+            }
+            batch.put(newsId, count);
+            if (batch.size() == FLUSH_BATCH_SIZE) {
+                batches.add(batch);
+                batch = new TreeMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        for (Map<Long, Long> counts : batches) {
+            try {
+                transactionTemplate.execute(status -> newsRepository.addViewCounts(counts));
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush view counts of {} news", counts.size(), e);
+                counts.forEach((id, count) -> views.merge(id, count, Long::sum));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,77 +1,282 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
 import com.mjc.school.repository.model.Tag;
 import com.mjc.school.service.TagService;
+import com.mjc.school.service.cache.CacheNames;
+import com.mjc.school.service.coalescing.Coalesced;
 import com.mjc.school.service.dto.tag.TagDtoRequest;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.dto.tag.TagNamesDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoResponse;
+import com.mjc.school.service.dto.tag.TrendingTagDtoResponse;
+import com.mjc.school.service.mapper.NewsFilterMapper;
 import com.mjc.school.service.mapper.TagMapper;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import com.mjc.school.service.related.TagDeletedEvent;
+import com.mjc.school.service.resilience.EvictStale;
+import com.mjc.school.service.resilience.StaleWhileRevalidate;
+import com.mjc.school.service.suggest.TagNameChangedEvent;
+import com.mjc.school.service.suggest.TagPrefixIndex;
+import com.mjc.school.service.trending.TagCount;
+import com.mjc.school.service.trending.TagUsageChangedEvent;
+import com.mjc.school.service.trending.TrendingTags;
+import com.mjc.school.service.version.NewsListChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TagServiceImpl implements TagService {
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final TagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final NewsRepository newsRepository;
+    private final NewsFilterMapper newsFilterMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingTags trendingTags;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagPrefixIndex tagPrefixIndex;
 
     @Override
+    @StaleWhileRevalidate("tags")
     public List<TagDtoResponse> readAll(Pageable pageable) {
         return tagMapper.modelListToDtoList(tagRepository.readAll(pageable));
     }
 
     @Override
+    @StaleWhileRevalidate("tags")
+    @Coalesced("tags.readAllByNewsId")
     public List<TagDtoResponse> readAllByNewsId(Long id) {
         return tagMapper.modelListToDtoList(tagRepository.readAllByNewsId(id));
     }
 
     @Override
+    @StaleWhileRevalidate("tags")
+    public List<TagDtoResponse> readAllByIds(List<Long> ids) {
+        return tagMapper.modelListToDtoList(tagRepository.readAllByIds(ids));
+    }
+
+    @Override
+    public List<TrendingTagDtoResponse> readTrending() {
+        List<TagCount> trending = trendingTags.top();
+        Map<Long, String> names = tagRepository.readAllByIds(trending.stream().map(TagCount::tagId).toList()).stream()
+                .collect(Collectors.toMap(Tag::getId, Tag::getName));
+        return trending.stream()
+                .filter(tag -> names.containsKey(tag.tagId()))
+                .map(tag -> TrendingTagDtoResponse.builder()
+                        .id(tag.tagId())
+                        .name(names.get(tag.tagId()))
+                        .count(tag.count())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<TagDtoResponse> suggest(String prefix, int limit) {
+        return tagPrefixIndex.suggest(prefix, limit).stream()
+                .map(tag -> TagDtoResponse.builder()
+                        .id(tag.id())
+                        .name(tag.name())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.MISSING_TAGS, unless = "#result != null")
+    @StaleWhileRevalidate("tags")
+    @Coalesced("tags.readById")
     public Optional<TagDtoResponse> readById(Long id) {
         return tagRepository.readById(id)
                 .map(tagMapper::modelToDto);
     }
 
+    @Override
+    public Optional<TagDtoResponse> readCurrentById(Long id) {
+        return tagRepository.readById(id)
+                .map(tagMapper::modelToDto);
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MISSING_TAGS, allEntries = true)
+    @EvictStale({"news", "tags"})
+    public List<TagDtoResponse> readOrCreateAllByNames(TagNamesDtoRequest request) {
+        List<TagDtoResponse> tags = tagMapper.modelListToDtoList(tagRepository.readOrCreateAllByNames(request.names()));
+        tags.forEach(tag -> eventPublisher.publishEvent(new TagNameChangedEvent(tag.id(), tag.name())));
+        return tags;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.MISSING_TAGS, allEntries = true)
+    @EvictStale({"news", "tags"})
     public TagDtoResponse create(TagDtoRequest createRequest) {
-        return Optional.of(createRequest)
+        TagDtoResponse created = Optional.of(createRequest)
                 .map(tagMapper::dtoToModel)
                 .map(tagRepository::create)
                 .map(tagMapper::modelToDto)
                 .orElseThrow();
+        eventPublisher.publishEvent(new TagNameChangedEvent(created.id(), created.name()));
+        return created;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale({"news", "tags"})
     public Optional<TagDtoResponse> update(Long id, TagDtoRequest updateRequest) {
-        return tagRepository.readById(id)
+        Optional<TagDtoResponse> updated = tagRepository.readById(id)
                 .map(model -> tagMapper.dtoToModel(updateRequest))
                 .map(tag -> {
                     tag.setId(id);
                     return tagRepository.update(tag);
                 })
                 .map(tagMapper::modelToDto);
+        updated.ifPresent(tag -> {
+            eventPublisher.publishEvent(new TagNameChangedEvent(tag.id(), tag.name()));
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        });
+        return updated;
     }
 
     @Override
     @Transactional
+    @EvictStale({"news", "tags"})
     public boolean deleteById(Long id) {
-        return tagRepository.readById(id)
+        boolean deleted = tagRepository.readById(id)
                 .map(model -> tagRepository.deleteById(id))
                 .orElse(false);
+        if (deleted) {
+            eventPublisher.publishEvent(new TagDeletedEvent(id));
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+        return deleted;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.NEWS_TOTALS, allEntries = true)
+    @EvictStale({"news", "tags"})
     public TagDtoResponse patch(Long id, TagDtoRequest patchRequest) {
         Tag tag = tagMapper.dtoToModel(patchRequest);
         tag.setId(id);
-        return tagMapper.modelToDto(tagRepository.update(tag));
+        TagDtoResponse patched = tagMapper.modelToDto(tagRepository.update(tag));
+        eventPublisher.publishEvent(new TagNameChangedEvent(patched.id(), patched.name()));
+        eventPublisher.publishEvent(new NewsListChangedEvent());
+        return patched;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @EvictStale({"news", "tags"})
+    public Optional<TagNewsDtoResponse> attachToNews(Long id, TagNewsDtoRequest request) {
+        return tagRepository.readById(id)
+                .map(tag -> processNewsInChunks(request, newsIds -> tagRepository.attachToNews(id, newsIds)))
+                .map(affected -> {
+                    eventPublisher.publishEvent(new TagUsageChangedEvent(List.of(id), affected));
+                    eventPublisher.publishEvent(new NewsListChangedEvent());
+                    return new TagNewsDtoResponse(id, affected);
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @EvictStale({"news", "tags"})
+    public Optional<TagNewsDtoResponse> detachFromNews(Long id, TagNewsDtoRequest request) {
+        return tagRepository.readById(id)
+                .map(tag -> processNewsInChunks(request, newsIds -> tagRepository.detachFromNews(id, newsIds)))
+                .map(affected -> {
+                    eventPublisher.publishEvent(new TagUsageChangedEvent(List.of(id), -affected));
+                    eventPublisher.publishEvent(new NewsListChangedEvent());
+                    return new TagNewsDtoResponse(id, affected);
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @EvictStale({"news", "tags"})
+    public Optional<TagDtoResponse> merge(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            return readById(targetId);
+        }
+
+        return tagRepository.readById(sourceId)
+                .flatMap(source -> tagRepository.readById(targetId))
+                .map(target -> {
+                    boolean merged = false;
+                    while (!merged) {
+                        merged = Boolean.TRUE.equals(transactionTemplate.execute(status -> moveNewsChunk(sourceId, targetId)));
+                    }
+                    return tagMapper.modelToDto(target);
+                });
+    }
+
+    private boolean moveNewsChunk(Long sourceId, Long targetId) {
+        List<Long> newsIds = tagRepository.readNewsIds(sourceId, BULK_CHUNK_SIZE);
+        if (!newsIds.isEmpty()) {
+            int attached = tagRepository.attachToNews(targetId, newsIds);
+            eventPublisher.publishEvent(new TagUsageChangedEvent(List.of(targetId), attached));
+            tagRepository.detachFromNews(sourceId, newsIds);
+            eventPublisher.publishEvent(new NewsTagsChangedEvent(newsIds));
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+
+        if (newsIds.size() < BULK_CHUNK_SIZE) {
+            tagRepository.deleteById(sourceId);
+            eventPublisher.publishEvent(new TagDeletedEvent(sourceId));
+            return true;
+        }
+        return false;
+    }
+
+    private long processNewsInChunks(TagNewsDtoRequest request, ToIntFunction<List<Long>> operation) {
+        long affected = 0;
+
+        if (request.newsIds() != null) {
+            List<Long> newsIds = request.newsIds();
+            for (int from = 0; from < newsIds.size(); from += BULK_CHUNK_SIZE) {
+                List<Long> chunk = newsIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, newsIds.size()));
+                affected += executeInTransaction(operation, chunk);
+            }
+        }
+
+        if (request.filter() != null) {
+            NewsSearchQueryParam filter = newsFilterMapper.dtoToModel(request.filter());
+            List<Long> chunk = newsRepository.readIdsByFilter(filter, 0L, BULK_CHUNK_SIZE);
+            while (!chunk.isEmpty()) {
+                affected += executeInTransaction(operation, chunk);
+                chunk = newsRepository.readIdsByFilter(filter, chunk.get(chunk.size() - 1), BULK_CHUNK_SIZE);
+            }
+        }
+
+        return affected;
+    }
+
+    private int executeInTransaction(ToIntFunction<List<Long>> operation, List<Long> newsIds) {
+        Integer affected = transactionTemplate.execute(status -> {
+            int result = operation.applyAsInt(newsIds);
+            eventPublisher.publishEvent(new NewsTagsChangedEvent(List.copyOf(newsIds)));
+            return result;
+        });
+        return affected == null ? 0 : affected;
     }
 }
\ No newline at end of file
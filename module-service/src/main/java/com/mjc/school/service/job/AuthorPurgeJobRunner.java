@@ -0,0 +1,91 @@
+package com.mjc.school.service.job;
+
+import com.mjc.school.repository.AuthorPurgeJobRepository;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.AuthorPurgeJob;
+import com.mjc.school.repository.model.PurgeJobStatus;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import com.mjc.school.service.version.NewsListChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorPurgeJobRunner {
+    private static final int CHUNK_SIZE = 500;
+
+    private final AuthorPurgeJobRepository authorPurgeJobRepository;
+    private final AuthorRepository authorRepository;
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async
+    @TransactionalEventListener
+    public void onPurgeRequested(AuthorPurgeRequestedEvent event) {
+        run(event.jobId());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        authorPurgeJobRepository.readAllUnfinished()
+                .forEach(job -> run(job.getId()));
+    }
+
+    public void run(Long jobId) {
+        try {
+            boolean completed = false;
+            while (!completed) {
+                completed = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(jobId)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Author purge job {} failed", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> authorPurgeJobRepository.readById(jobId)
+                    .ifPresent(job -> {
+                        job.setStatus(PurgeJobStatus.FAILED);
+                        authorPurgeJobRepository.update(job);
+                    }));
+        }
+    }
+
+    private boolean processChunk(Long jobId) {
+        AuthorPurgeJob job = authorPurgeJobRepository.readById(jobId).orElseThrow();
+        List<Long> newsIds = newsRepository.readIdsByAuthorId(job.getAuthorId(), CHUNK_SIZE);
+
+        if (!newsIds.isEmpty()) {
+            if (job.getTargetAuthorId() != null) {
+                newsRepository.reassignAuthor(newsIds, job.getTargetAuthorId());
+            } else {
+                commentRepository.deleteAllByNewsIds(newsIds);
+                newsRepository.deleteAllByIds(newsIds);
+                eventPublisher.publishEvent(new NewsTagsChangedEvent(newsIds));
+            }
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+
+        job.setProcessedNews(job.getProcessedNews() + newsIds.size());
+        if (newsIds.size() < CHUNK_SIZE) {
+            authorRepository.deleteById(job.getAuthorId());
+            job.setStatus(PurgeJobStatus.COMPLETED);
+        } else {
+            job.setStatus(PurgeJobStatus.RUNNING);
+        }
+        authorPurgeJobRepository.update(job);
+
+        return job.getStatus() == PurgeJobStatus.COMPLETED;
+    }
+}
\ No newline at end of file
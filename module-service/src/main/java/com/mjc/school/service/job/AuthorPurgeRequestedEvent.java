@@ -0,0 +1,4 @@
+package com.mjc.school.service.job;
+
+public record AuthorPurgeRequestedEvent(Long jobId) {
+}
\ No newline at end of file
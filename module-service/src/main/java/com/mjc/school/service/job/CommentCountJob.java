@@ -0,0 +1,43 @@
+package com.mjc.school.service.job;
+
+import com.mjc.school.repository.CommentCountRepository;
+import com.mjc.school.service.version.NewsListChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountJob {
+    private static final int FOLD_BATCH_SIZE = 1000;
+
+    private final CommentCountRepository commentCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${app.comment-count.fold-delay:PT5S}")
+    public void fold() {
+        int folded = FOLD_BATCH_SIZE;
+        int total = 0;
+        while (folded == FOLD_BATCH_SIZE) {
+            folded = transactionTemplate.execute(status -> commentCountRepository.foldDeltas(FOLD_BATCH_SIZE));
+            total += folded;
+        }
+        if (total > 0) {
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+    }
+
+    @Scheduled(cron = "${app.comment-count.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        Integer fixed = transactionTemplate.execute(status -> commentCountRepository.reconcile());
+        if (fixed != null && fixed > 0) {
+            log.warn("Reconciled comment counts of {} news", fixed);
+            eventPublisher.publishEvent(new NewsListChangedEvent());
+        }
+    }
+}
\ No newline at end of file
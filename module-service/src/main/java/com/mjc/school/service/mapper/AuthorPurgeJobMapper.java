@@ -0,0 +1,11 @@
+package com.mjc.school.service.mapper;
+
+import com.mjc.school.repository.model.AuthorPurgeJob;
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface AuthorPurgeJobMapper {
+
+    AuthorPurgeJobDtoResponse modelToDto(AuthorPurgeJob model);
+}
\ No newline at end of file
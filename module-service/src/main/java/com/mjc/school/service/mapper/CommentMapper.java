@@ -3,9 +3,12 @@ package com.mjc.school.service.mapper;
 import com.mjc.school.repository.model.Comment;
 import com.mjc.school.service.dto.comment.CommentDtoRequest;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentSummaryDtoResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", uses = {NewsMapper.class, AuthorMapper.class, TagMapper.class})
 public interface CommentMapper extends BaseMapper<CommentDtoRequest, Comment, CommentDtoResponse> {
 
@@ -16,4 +19,9 @@ public interface CommentMapper extends BaseMapper<CommentDtoRequest, Comment, Co
     @Override
     @Mapping(target = "news.id", source = "newsId")
     Comment dtoToModel(CommentDtoRequest dtoRequest);
+
+    @Mapping(target = "createdDate", source = "createDate")
+    CommentSummaryDtoResponse modelToSummaryDto(Comment model);
+
+    List<CommentSummaryDtoResponse> modelListToSummaryDtoList(List<Comment> models);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.mjc.school.service.mapper;
+
+import com.mjc.school.repository.model.NewsBody;
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface NewsBodyMapper {
+
+    @Mapping(target = "newsId", source = "id")
+    @Mapping(target = "compressedLength", expression = "java(model.getBody().length)")
+    NewsBodyDtoResponse modelToDto(NewsBody model);
+}
\ No newline at end of file
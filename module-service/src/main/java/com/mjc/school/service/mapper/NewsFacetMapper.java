@@ -0,0 +1,15 @@
+package com.mjc.school.service.mapper;
+
+import com.mjc.school.repository.model.FacetCount;
+import com.mjc.school.repository.model.NewsFacets;
+import com.mjc.school.service.dto.news.FacetCountDtoResponse;
+import com.mjc.school.service.dto.news.NewsFacetsDtoResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface NewsFacetMapper {
+
+    FacetCountDtoResponse modelToDto(FacetCount model);
+
+    NewsFacetsDtoResponse modelToDto(NewsFacets model);
+}
\ No newline at end of file
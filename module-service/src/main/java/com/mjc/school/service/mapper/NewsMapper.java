@@ -26,6 +26,7 @@ public interface NewsMapper extends BaseMapper<NewsDtoRequest, News, NewsDtoResp
 
     @Mapping(target = "author", source = "author")
     @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "snippet", expression = "java(snippet(model))")
     @Named("fullModelToDto")
     NewsDtoResponse fullModelToDto(News model);
 
@@ -35,8 +36,20 @@ public interface NewsMapper extends BaseMapper<NewsDtoRequest, News, NewsDtoResp
     @Override
     @Mapping(target = "author.id", source = "authorId")
     @Mapping(target = "tags", source = "tagIds")
+    @Mapping(target = "snippet", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
     News dtoToModel(NewsDtoRequest dtoRequest);
 
+    default String snippet(News model) {
+        String content = model.getContent();
+        if (model.getSnippet() != null || content == null) {
+            return model.getSnippet();
+        }
+
+        return content.length() <= News.SNIPPET_LENGTH ? content : content.substring(0, News.SNIPPET_LENGTH);
+    }
+
     default List<Tag> mapTagIdsToTagModels(List<Long> tagIds) {
         if (tagIds == null) {
             return List.of();
@@ -0,0 +1,54 @@
+package com.mjc.school.service.page;
+
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import com.mjc.school.service.cache.CacheNames;
+import com.mjc.school.service.dto.page.TotalMode;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import com.mjc.school.service.related.TagDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class NewsTotals {
+    private static final NewsSearchQueryParam UNFILTERED = NewsSearchQueryParam.builder().build();
+
+    private final NewsRepository newsRepository;
+    private final CacheManager cacheManager;
+
+    public long count(TotalMode mode) {
+        return count(UNFILTERED, mode);
+    }
+
+    public long count(NewsSearchQueryParam filter, TotalMode mode) {
+        return switch (mode) {
+            case EXACT -> newsRepository.countByFilter(filter);
+            case CACHED -> cached(filter);
+            case ESTIMATED -> UNFILTERED.equals(filter) ? newsRepository.estimateCount() : cached(filter);
+        };
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsTagsChanged(NewsTagsChangedEvent event) {
+        totals().invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagDeleted(TagDeletedEvent event) {
+        totals().invalidate();
+    }
+
+    private long cached(NewsSearchQueryParam filter) {
+        return Objects.requireNonNull(totals().get(filter, () -> newsRepository.countByFilter(filter)));
+    }
+
+    private Cache totals() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheNames.NEWS_TOTALS));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.mjc.school.service.related;
+
+import java.util.List;
+
+public record NewsTagsChangedEvent(List<Long> newsIds) {
+}
\ No newline at end of file
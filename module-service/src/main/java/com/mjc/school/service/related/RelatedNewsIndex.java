@@ -0,0 +1,273 @@
+package com.mjc.school.service.related;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class RelatedNewsIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private final int limit;
+    private Map<Long, long[]> tagsByNews = new HashMap<>();
+    private Map<Long, long[]> newsByTag = new HashMap<>();
+    private Map<Long, long[]> relatedByNews = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RelatedNewsIndex(int limit) {
+        this.limit = limit;
+    }
+
+    public long[] related(long newsId) {
+        lock.readLock().lock();
+        try {
+            return relatedByNews.getOrDefault(newsId, EMPTY).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void update(long newsId, long[] tagIds) {
+        lock.writeLock().lock();
+        try {
+            long[] tags = distinctSorted(tagIds);
+            long[] previous = tagsByNews.getOrDefault(newsId, EMPTY);
+            if (Arrays.equals(previous, tags)) {
+                return;
+            }
+
+            for (long tagId : previous) {
+                if (Arrays.binarySearch(tags, tagId) < 0) {
+                    newsByTag.computeIfPresent(tagId, (key, news) -> {
+                        long[] remaining = remove(news, newsId);
+                        return remaining.length == 0 ? null : remaining;
+                    });
+                }
+            }
+            for (long tagId : tags) {
+                if (Arrays.binarySearch(previous, tagId) < 0) {
+                    newsByTag.put(tagId, insert(newsByTag.getOrDefault(tagId, EMPTY), newsId));
+                }
+            }
+
+            if (tags.length == 0) {
+                tagsByNews.remove(newsId);
+                relatedByNews.remove(newsId);
+            } else {
+                tagsByNews.put(newsId, tags);
+                relatedByNews.put(newsId, compute(newsId));
+            }
+
+            for (long neighbour : neighbours(union(previous, tags))) {
+                if (neighbour != newsId) {
+                    adjust(neighbour, newsId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replace(Map<Long, long[]> tagIdsByNews) {
+        Map<Long, long[]> tags = new HashMap<>();
+        Map<Long, List<Long>> newsIds = new HashMap<>();
+        tagIdsByNews.forEach((newsId, tagIds) -> {
+            long[] distinct = distinctSorted(tagIds);
+            if (distinct.length > 0) {
+                tags.put(newsId, distinct);
+                for (long tagId : distinct) {
+                    newsIds.computeIfAbsent(tagId, key -> new ArrayList<>()).add(newsId);
+                }
+            }
+        });
+        Map<Long, long[]> news = new HashMap<>();
+        newsIds.forEach((tagId, ids) -> news.put(tagId, ids.stream().mapToLong(Long::longValue).sorted().toArray()));
+
+        Map<Long, long[]> related = new HashMap<>();
+        for (Long newsId : tags.keySet()) {
+            related.put(newsId, compute(newsId, tags, news));
+        }
+
+        lock.writeLock().lock();
+        try {
+            tagsByNews = tags;
+            newsByTag = news;
+            relatedByNews = related;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTag(long tagId) {
+        lock.writeLock().lock();
+        try {
+            for (long newsId : newsByTag.getOrDefault(tagId, EMPTY)) {
+                update(newsId, remove(tagsByNews.get(newsId), tagId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjust(long newsId, long changedId) {
+        long[] current = relatedByNews.getOrDefault(newsId, EMPTY);
+        if (contains(current, changedId)) {
+            relatedByNews.put(newsId, compute(newsId));
+            return;
+        }
+
+        long[] tags = tagsByNews.get(newsId);
+        double score = jaccard(tags, tagsByNews.getOrDefault(changedId, EMPTY));
+        if (score == 0 || current.length == limit
+                && compare(score, changedId, jaccard(tags, tagsByNews.get(current[limit - 1])), current[limit - 1]) >= 0) {
+            return;
+        }
+
+        long[] related = Arrays.copyOf(current, Math.min(current.length + 1, limit));
+        int position = related.length - 1;
+        while (position > 0
+                && compare(score, changedId, jaccard(tags, tagsByNews.get(related[position - 1])), related[position - 1]) < 0) {
+            related[position] = related[position - 1];
+            position--;
+        }
+        related[position] = changedId;
+        relatedByNews.put(newsId, related);
+    }
+
+    private long[] compute(long newsId) {
+        return compute(newsId, tagsByNews, newsByTag);
+    }
+
+    private long[] compute(long newsId, Map<Long, long[]> tagsByNews, Map<Long, long[]> newsByTag) {
+        long[] tags = tagsByNews.get(newsId);
+        int total = 0;
+        for (long tagId : tags) {
+            total += newsByTag.getOrDefault(tagId, EMPTY).length;
+        }
+        long[] candidates = new long[total];
+        int offset = 0;
+        for (long tagId : tags) {
+            long[] news = newsByTag.getOrDefault(tagId, EMPTY);
+            System.arraycopy(news, 0, candidates, offset, news.length);
+            offset += news.length;
+        }
+        Arrays.sort(candidates);
+
+        long[] bestIds = new long[limit];
+        double[] bestScores = new double[limit];
+        int size = 0;
+        for (int from = 0; from < candidates.length; ) {
+            int to = from;
+            while (to < candidates.length && candidates[to] == candidates[from]) {
+                to++;
+            }
+            long candidate = candidates[from];
+            int shared = to - from;
+            from = to;
+            if (candidate == newsId) {
+                continue;
+            }
+
+            double score = (double) shared / (tags.length + tagsByNews.get(candidate).length - shared);
+            if (size == limit && compare(score, candidate, bestScores[size - 1], bestIds[size - 1]) >= 0) {
+                continue;
+            }
+            int position = size == limit ? size - 1 : size++;
+            while (position > 0 && compare(score, candidate, bestScores[position - 1], bestIds[position - 1]) < 0) {
+                bestIds[position] = bestIds[position - 1];
+                bestScores[position] = bestScores[position - 1];
+                position--;
+            }
+            bestIds[position] = candidate;
+            bestScores[position] = score;
+        }
+        return Arrays.copyOf(bestIds, size);
+    }
+
+    private long[] neighbours(long[] tags) {
+        long[] neighbours = new long[0];
+        for (long tagId : tags) {
+            neighbours = union(neighbours, newsByTag.getOrDefault(tagId, EMPTY));
+        }
+        return neighbours;
+    }
+
+    private static int compare(double score, long id, double otherScore, long otherId) {
+        int byScore = Double.compare(otherScore, score);
+        return byScore != 0 ? byScore : Long.compare(otherId, id);
+    }
+
+    private static double jaccard(long[] first, long[] second) {
+        int shared = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            if (first[i] == second[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared == 0 ? 0 : (double) shared / (first.length + second.length - shared);
+    }
+
+    private static long[] union(long[] first, long[] second) {
+        long[] union = new long[first.length + second.length];
+        int size = 0;
+        for (int i = 0, j = 0; i < first.length || j < second.length; ) {
+            if (j == second.length || i < first.length && first[i] < second[j]) {
+                union[size++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                union[size++] = second[j++];
+            } else {
+                union[size++] = first[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(union, size);
+    }
+
+    private static long[] insert(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+
+        int insertion = -position - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertion);
+        result[insertion] = value;
+        System.arraycopy(sorted, insertion, result, insertion + 1, sorted.length - insertion);
+        return result;
+    }
+
+    private static long[] remove(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+        return result;
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long current : values) {
+            if (current == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] distinctSorted(long[] values) {
+        return Arrays.stream(values).sorted().distinct().toArray();
+    }
+}
\ No newline at end of file
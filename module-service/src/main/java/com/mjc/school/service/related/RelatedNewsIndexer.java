@@ -0,0 +1,103 @@
+package com.mjc.school.service.related;
+
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class RelatedNewsIndexer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final RelatedNewsIndex relatedNewsIndex;
+    private final NewsRepository newsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Object lock = new Object();
+    private Set<Long> changedNewsIds;
+    private Set<Long> deletedTagIds;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            changedNewsIds = new HashSet<>();
+            deletedTagIds = new HashSet<>();
+        }
+        NewsSearchQueryParam all = NewsSearchQueryParam.builder().build();
+        Map<Long, long[]> tagIdsByNews = new HashMap<>();
+        List<Long> chunk = readIds(all, 0L);
+        while (!chunk.isEmpty()) {
+            tagIdsByNews.putAll(readTagIds(chunk));
+            chunk = readIds(all, chunk.get(chunk.size() - 1));
+        }
+        synchronized (lock) {
+            relatedNewsIndex.replace(tagIdsByNews);
+            deletedTagIds.forEach(relatedNewsIndex::removeTag);
+            List<Long> changed = new ArrayList<>(changedNewsIds);
+            changedNewsIds = null;
+            deletedTagIds = null;
+            if (!changed.isEmpty()) {
+                refresh(changed);
+            }
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsTagsChanged(NewsTagsChangedEvent event) {
+        synchronized (lock) {
+            if (changedNewsIds != null) {
+                changedNewsIds.addAll(event.newsIds());
+            }
+            refresh(event.newsIds());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagDeleted(TagDeletedEvent event) {
+        synchronized (lock) {
+            if (deletedTagIds != null) {
+                deletedTagIds.add(event.tagId());
+            }
+            relatedNewsIndex.removeTag(event.tagId());
+        }
+    }
+
+    private List<Long> readIds(NewsSearchQueryParam filter, Long afterId) {
+        return transactionTemplate.execute(status -> newsRepository.readIdsByFilter(filter, afterId, CHUNK_SIZE));
+    }
+
+    private Map<Long, long[]> readTagIds(List<Long> newsIds) {
+        Map<Long, List<Long>> tagIds = transactionTemplate.execute(status -> newsRepository.readTagIdsByNewsIds(newsIds));
+        Map<Long, long[]> result = new HashMap<>();
+        for (Long newsId : newsIds) {
+            result.put(newsId, toArray(tagIds.getOrDefault(newsId, List.of())));
+        }
+        return result;
+    }
+
+    private void refresh(List<Long> newsIds) {
+        readTagIds(newsIds).forEach(relatedNewsIndex::update);
+    }
+
+    private static long[] toArray(Collection<Long> ids) {
+        return ids.stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
\ No newline at end of file
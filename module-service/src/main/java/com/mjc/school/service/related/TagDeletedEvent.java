@@ -0,0 +1,4 @@
+package com.mjc.school.service.related;
+
+public record TagDeletedEvent(Long tagId) {
+}
\ No newline at end of file
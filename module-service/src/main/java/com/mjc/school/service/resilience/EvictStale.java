@@ -0,0 +1,12 @@
+package com.mjc.school.service.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EvictStale {
+    String[] value();
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.mjc.school.service.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.resilience")
+public class ResilienceProperties {
+    private int poolSize = 16;
+    private int queueCapacity = 1000;
+    private Policy defaults = new Policy();
+    private Map<String, Policy> entities = new HashMap<>();
+
+    public Policy policyFor(String entity) {
+        return entities.getOrDefault(entity, defaults);
+    }
+
+    @Data
+    public static class Policy {
+        private Duration latencyBudget = Duration.ofMillis(500);
+        private Duration maxStale = Duration.ofMinutes(10);
+        private long maximumSize = 10000;
+    }
+}
\ No newline at end of file
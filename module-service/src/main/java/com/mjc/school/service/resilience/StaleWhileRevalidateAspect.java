@@ -0,0 +1,174 @@
+package com.mjc.school.service.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PersistenceException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class StaleWhileRevalidateAspect implements DisposableBean {
+    private final ResilienceProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Cache<Key, Entry>> stores = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Object>> reloads = new ConcurrentHashMap<>();
+
+    public StaleWhileRevalidateAspect(ResilienceProperties properties) {
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("stale-reload-"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Around("@annotation(staleWhileRevalidate)")
+    public Object serve(ProceedingJoinPoint joinPoint, StaleWhileRevalidate staleWhileRevalidate) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Cache<Key, Entry> store = store(staleWhileRevalidate.value());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Key key = new Key(method, Arrays.asList(joinPoint.getArgs()));
+
+        Entry entry = store.getIfPresent(key);
+        if (entry == null) {
+            Object result = joinPoint.proceed();
+            store.put(key, new Entry(result, Instant.now()));
+            return result;
+        }
+
+        CompletableFuture<Object> reload;
+        try {
+            reload = reload(store, key, joinPoint);
+        } catch (RejectedExecutionException e) {
+            return serveStale(entry);
+        }
+
+        Duration latencyBudget = properties.policyFor(staleWhileRevalidate.value()).getLatencyBudget();
+        try {
+            return reload.get(latencyBudget.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Serving stale {} after exceeding the {} latency budget", method.getName(), latencyBudget);
+            return serveStale(entry);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataAccessException || e.getCause() instanceof PersistenceException
+                    || e.getCause() instanceof TransactionException) {
+                log.warn("Serving stale {} after a failed read", method.getName(), e.getCause());
+                return serveStale(entry);
+            }
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return serveStale(entry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @AfterReturning("@annotation(evictStale)")
+    public void evict(EvictStale evictStale) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(evictStale.value());
+                }
+            });
+        } else {
+            evict(evictStale.value());
+        }
+    }
+
+    private CompletableFuture<Object> reload(Cache<Key, Entry> store, Key key, ProceedingJoinPoint joinPoint) {
+        CompletableFuture<Object> reload = new CompletableFuture<>();
+        CompletableFuture<Object> existing = reloads.putIfAbsent(key, reload);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    Object result = joinPoint.proceed();
+                    if (reloads.remove(key, reload)) {
+                        store.put(key, new Entry(result, Instant.now()));
+                    }
+                    reload.complete(result);
+                } catch (Throwable e) {
+                    reloads.remove(key, reload);
+                    reload.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reloads.remove(key, reload);
+            throw e;
+        }
+        return reload;
+    }
+
+    private Object serveStale(Entry entry) {
+        StalenessContext.markStale(Duration.between(entry.loadedAt(), Instant.now()));
+        return entry.value();
+    }
+
+    private void evict(String[] entities) {
+        reloads.clear();
+        for (String entity : entities) {
+            Cache<Key, Entry> store = stores.get(entity);
+            if (store != null) {
+                store.invalidateAll();
+            }
+        }
+    }
+
+    private Cache<Key, Entry> store(String entity) {
+        return stores.computeIfAbsent(entity, name -> {
+            ResilienceProperties.Policy policy = properties.policyFor(name);
+            return Caffeine.newBuilder()
+                    .expireAfterWrite(policy.getMaxStale())
+                    .maximumSize(policy.getMaximumSize())
+                    .build();
+        });
+    }
+
+    private record Key(Method method, List<Object> args) {
+    }
+
+    private record Entry(Object value, Instant loadedAt) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.mjc.school.service.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public final class StalenessContext {
+    private static final ThreadLocal<Duration> AGE = new ThreadLocal<>();
+
+    private StalenessContext() {
+    }
+
+    public static void markStale(Duration age) {
+        Duration current = AGE.get();
+        if (current == null || current.compareTo(age) < 0) {
+            AGE.set(age);
+        }
+    }
+
+    public static Optional<Duration> current() {
+        return Optional.ofNullable(AGE.get());
+    }
+
+    public static void clear() {
+        AGE.remove();
+    }
+}
\ No newline at end of file
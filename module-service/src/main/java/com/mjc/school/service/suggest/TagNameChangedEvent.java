@@ -0,0 +1,4 @@
+package com.mjc.school.service.suggest;
+
+public record TagNameChangedEvent(Long tagId, String name) {
+}
\ No newline at end of file
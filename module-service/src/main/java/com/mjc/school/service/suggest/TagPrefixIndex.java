@@ -0,0 +1,242 @@
+package com.mjc.school.service.suggest;
+
+import com.mjc.school.repository.model.TagUsage;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class TagPrefixIndex {
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int SHORT_PREFIX_LENGTH = 1;
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> BY_KEY = Comparator.comparing(Entry::key).thenComparing(Entry::id);
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong(Entry::popularity).reversed()
+            .thenComparing(Entry::key)
+            .thenComparing(Entry::id);
+
+    private final Map<Long, Entry> entriesById = new HashMap<>();
+    private volatile Entry[] entries = EMPTY;
+    private volatile Map<String, Entry[]> topByShortPrefix = Map.of();
+    private Set<Long> changedIds;
+
+    public List<TagUsage> suggest(String prefix, int limit) {
+        int size = Math.min(Math.max(limit, 0), MAX_SUGGESTIONS);
+        if (prefix == null || size == 0) {
+            return List.of();
+        }
+
+        String key = normalize(prefix);
+        Entry[] best = key.length() <= SHORT_PREFIX_LENGTH
+                ? topByShortPrefix.getOrDefault(key, EMPTY)
+                : top(entries, key, size);
+        int found = Math.min(best.length, size);
+
+        List<TagUsage> suggestions = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            suggestions.add(new TagUsage(best[i].id(), best[i].name(), best[i].popularity()));
+        }
+        return suggestions;
+    }
+
+    public synchronized void beginLoad() {
+        changedIds = new HashSet<>();
+    }
+
+    public synchronized void load(Collection<TagUsage> usages) {
+        entriesById.clear();
+        for (TagUsage usage : usages) {
+            entriesById.put(usage.id(), toEntry(usage));
+        }
+        Entry[] sorted = entriesById.values().toArray(Entry[]::new);
+        Arrays.sort(sorted, BY_KEY);
+        publish(sorted);
+    }
+
+    public synchronized Set<Long> drainChanges() {
+        Set<Long> changed = changedIds == null ? Set.of() : changedIds;
+        changedIds = changed.isEmpty() ? null : new HashSet<>();
+        return changed;
+    }
+
+    public synchronized void refresh(Collection<Long> ids, Collection<TagUsage> usages) {
+        Map<Long, TagUsage> usagesById = usages.stream()
+                .collect(Collectors.toMap(TagUsage::id, Function.identity()));
+        for (Long id : ids) {
+            Entry previous = entriesById.get(id);
+            TagUsage usage = usagesById.get(id);
+            Entry entry = usage == null ? null : toEntry(usage);
+            if (previous != null || entry != null) {
+                replace(previous, entry);
+            }
+        }
+    }
+
+    public synchronized void put(Long id, String name) {
+        if (id == null || name == null) {
+            return;
+        }
+
+        recordChange(id);
+        Entry previous = entriesById.get(id);
+        if (previous != null && previous.name().equals(name)) {
+            return;
+        }
+
+        Entry entry = new Entry(normalize(name), id, name, previous == null ? 0 : previous.popularity());
+        replace(previous, entry);
+    }
+
+    public synchronized void remove(Long id) {
+        recordChange(id);
+        Entry previous = entriesById.get(id);
+        if (previous != null) {
+            replace(previous, null);
+        }
+    }
+
+    public synchronized void addPopularity(Long id, long delta) {
+        recordChange(id);
+        Entry previous = entriesById.get(id);
+        if (previous != null && delta != 0) {
+            replace(previous, new Entry(previous.key(), id, previous.name(), Math.max(previous.popularity() + delta, 0)));
+        }
+    }
+
+    private void replace(Entry previous, Entry entry) {
+        Entry[] current = entries;
+        if (previous != null) {
+            int position = Arrays.binarySearch(current, previous, BY_KEY);
+            Entry[] removed = new Entry[current.length - 1];
+            System.arraycopy(current, 0, removed, 0, position);
+            System.arraycopy(current, position + 1, removed, position, current.length - position - 1);
+            current = removed;
+            entriesById.remove(previous.id());
+        }
+        if (entry != null) {
+            int position = -Arrays.binarySearch(current, entry, BY_KEY) - 1;
+            Entry[] inserted = new Entry[current.length + 1];
+            System.arraycopy(current, 0, inserted, 0, position);
+            inserted[position] = entry;
+            System.arraycopy(current, position, inserted, position + 1, current.length - position);
+            current = inserted;
+            entriesById.put(entry.id(), entry);
+        }
+
+        Map<String, Entry[]> shortPrefixes = new HashMap<>(topByShortPrefix);
+        for (String prefix : affectedPrefixes(previous, entry)) {
+            Entry[] best = update(shortPrefixes.getOrDefault(prefix, EMPTY), current, prefix, previous, entry);
+            if (best.length == 0) {
+                shortPrefixes.remove(prefix);
+            } else {
+                shortPrefixes.put(prefix, best);
+            }
+        }
+        entries = current;
+        topByShortPrefix = shortPrefixes;
+    }
+
+    private void recordChange(Long id) {
+        if (changedIds != null) {
+            changedIds.add(id);
+        }
+    }
+
+    private void publish(Entry[] sorted) {
+        Map<String, Entry[]> shortPrefixes = new HashMap<>();
+        shortPrefixes.put("", top(sorted, "", MAX_SUGGESTIONS));
+        for (Entry entry : sorted) {
+            if (entry.key().length() >= SHORT_PREFIX_LENGTH) {
+                shortPrefixes.computeIfAbsent(entry.key().substring(0, SHORT_PREFIX_LENGTH),
+                        prefix -> top(sorted, prefix, MAX_SUGGESTIONS));
+            }
+        }
+        entries = sorted;
+        topByShortPrefix = shortPrefixes;
+    }
+
+    private static Set<String> affectedPrefixes(Entry previous, Entry entry) {
+        Set<String> prefixes = new HashSet<>();
+        prefixes.add("");
+        for (Entry changed : new Entry[]{previous, entry}) {
+            if (changed != null && changed.key().length() >= SHORT_PREFIX_LENGTH) {
+                prefixes.add(changed.key().substring(0, SHORT_PREFIX_LENGTH));
+            }
+        }
+        return prefixes;
+    }
+
+    private static Entry[] update(Entry[] best, Entry[] sorted, String key, Entry previous, Entry entry) {
+        boolean matches = entry != null && entry.key().startsWith(key);
+        int position = previous == null ? -1 : Arrays.asList(best).indexOf(previous);
+        if (position >= 0 && best.length == MAX_SUGGESTIONS
+                && (!matches || BY_POPULARITY.compare(entry, previous) > 0)) {
+            return top(sorted, key, MAX_SUGGESTIONS);
+        }
+
+        List<Entry> updated = new ArrayList<>(Arrays.asList(best));
+        if (position >= 0) {
+            updated.remove(position);
+        }
+        if (matches) {
+            updated.add(-Collections.binarySearch(updated, entry, BY_POPULARITY) - 1, entry);
+        }
+        return updated.subList(0, Math.min(updated.size(), MAX_SUGGESTIONS)).toArray(Entry[]::new);
+    }
+
+    private static Entry[] top(Entry[] sorted, String key, int size) {
+        Entry[] best = new Entry[size];
+        int found = 0;
+        for (int i = lowerBound(sorted, key); i < sorted.length && sorted[i].key().startsWith(key); i++) {
+            Entry entry = sorted[i];
+            if (found == size && BY_POPULARITY.compare(entry, best[size - 1]) >= 0) {
+                continue;
+            }
+            int position = found == size ? size - 1 : found++;
+            while (position > 0 && BY_POPULARITY.compare(entry, best[position - 1]) < 0) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = entry;
+        }
+        return Arrays.copyOf(best, found);
+    }
+
+    private static int lowerBound(Entry[] entries, String key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries[middle].key().compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Entry toEntry(TagUsage usage) {
+        return new Entry(normalize(usage.name()), usage.id(), usage.name(),
+                usage.newsCount() == null ? 0 : usage.newsCount());
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String key, Long id, String name, long popularity) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.mjc.school.service.suggest;
+
+import com.mjc.school.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TagPrefixIndexLoader {
+    private final TagPrefixIndex tagPrefixIndex;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        tagPrefixIndex.beginLoad();
+        tagPrefixIndex.load(transactionTemplate.execute(status -> tagRepository.readAllUsages()));
+        Set<Long> changed = tagPrefixIndex.drainChanges();
+        while (!changed.isEmpty()) {
+            List<Long> ids = List.copyOf(changed);
+            tagPrefixIndex.refresh(ids, transactionTemplate.execute(status -> tagRepository.readAllUsagesByIds(ids)));
+            changed = tagPrefixIndex.drainChanges();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.mjc.school.service.suggest;
+
+import com.mjc.school.service.related.TagDeletedEvent;
+import com.mjc.school.service.trending.TagUsageChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TagPrefixIndexUpdater {
+    private final TagPrefixIndex tagPrefixIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagNameChanged(TagNameChangedEvent event) {
+        tagPrefixIndex.put(event.tagId(), event.name());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagDeleted(TagDeletedEvent event) {
+        tagPrefixIndex.remove(event.tagId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTagUsageChanged(TagUsageChangedEvent event) {
+        if (event.tagIds() != null) {
+            event.tagIds().forEach(tagId -> tagPrefixIndex.addPopularity(tagId, event.delta()));
+        }
+    }
+}
\ No newline at end of file
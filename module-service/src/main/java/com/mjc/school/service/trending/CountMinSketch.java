@@ -0,0 +1,41 @@
+package com.mjc.school.service.trending;
+
+import java.util.Arrays;
+
+class CountMinSketch {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final long[][] counts;
+    private final int width;
+
+    CountMinSketch(int depth, int width) {
+        this.counts = new long[depth][width];
+        this.width = width;
+    }
+
+    void add(long key, long count) {
+        for (int row = 0; row < counts.length; row++) {
+            counts[row][index(key, row)] += count;
+        }
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            estimate = Math.min(estimate, counts[row][index(key, row)]);
+        }
+        return estimate;
+    }
+
+    void clear() {
+        for (long[] row : counts) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key + (row + 1) * SEED) * 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 31;
+        return (int) Math.floorMod(hash, (long) width);
+    }
+}
\ No newline at end of file
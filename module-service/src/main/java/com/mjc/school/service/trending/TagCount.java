@@ -0,0 +1,4 @@
+package com.mjc.school.service.trending;
+
+public record TagCount(Long tagId, long count) {
+}
\ No newline at end of file
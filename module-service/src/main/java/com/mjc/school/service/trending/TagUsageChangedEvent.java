@@ -0,0 +1,6 @@
+package com.mjc.school.service.trending;
+
+import java.util.Collection;
+
+public record TagUsageChangedEvent(Collection<Long> tagIds, long delta) {
+}
\ No newline at end of file
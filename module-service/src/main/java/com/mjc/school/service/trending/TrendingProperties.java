@@ -0,0 +1,16 @@
+package com.mjc.school.service.trending;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProperties {
+    private Duration bucketDuration = Duration.ofHours(1);
+    private int buckets = 24;
+    private int topK = 10;
+    private int depth = 4;
+    private int width = 1024;
+}
\ No newline at end of file
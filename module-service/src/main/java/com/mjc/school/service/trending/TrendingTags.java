@@ -0,0 +1,98 @@
+package com.mjc.school.service.trending;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TrendingTags {
+    private static final int CANDIDATES_PER_RESULT = 4;
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int topK;
+    private final int capacity;
+    private final CountMinSketch[] sketches;
+    private final long[] epochs;
+    private final Map<Long, Long> candidates = new HashMap<>();
+
+    public TrendingTags(TrendingProperties properties, Clock clock) {
+        this.clock = clock;
+        this.bucketMillis = properties.getBucketDuration().toMillis();
+        this.topK = properties.getTopK();
+        this.capacity = properties.getTopK() * CANDIDATES_PER_RESULT;
+        this.sketches = new CountMinSketch[properties.getBuckets()];
+        this.epochs = new long[properties.getBuckets()];
+        for (int i = 0; i < sketches.length; i++) {
+            sketches[i] = new CountMinSketch(properties.getDepth(), properties.getWidth());
+            epochs[i] = Long.MIN_VALUE;
+        }
+    }
+
+    public synchronized void record(Collection<Long> tagIds, long count) {
+        if (tagIds == null || tagIds.isEmpty() || count <= 0) {
+            return;
+        }
+
+        CountMinSketch current = advance();
+        for (Long tagId : tagIds) {
+            current.add(tagId, count);
+            offer(tagId, estimate(tagId));
+        }
+    }
+
+    public synchronized List<TagCount> top() {
+        advance();
+        return candidates.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(topK)
+                .map(candidate -> new TagCount(candidate.getKey(), candidate.getValue()))
+                .toList();
+    }
+
+    private CountMinSketch advance() {
+        long epoch = clock.millis() / bucketMillis;
+        int slot = (int) Math.floorMod(epoch, (long) sketches.length);
+        if (epochs[slot] != epoch) {
+            sketches[slot].clear();
+            epochs[slot] = epoch;
+            refreshCandidates();
+        }
+        return sketches[slot];
+    }
+
+    private void refreshCandidates() {
+        candidates.replaceAll((tagId, count) -> estimate(tagId));
+        candidates.values().removeIf(count -> count == 0);
+    }
+
+    private long estimate(long tagId) {
+        long epoch = clock.millis() / bucketMillis;
+        long estimate = 0;
+        for (int i = 0; i < sketches.length; i++) {
+            if (epochs[i] > epoch - sketches.length) {
+                estimate += sketches[i].estimate(tagId);
+            }
+        }
+        return estimate;
+    }
+
+    private void offer(Long tagId, long estimate) {
+        if (candidates.containsKey(tagId) || candidates.size() < capacity) {
+            candidates.put(tagId, estimate);
+            return;
+        }
+
+        candidates.entrySet().stream()
+                .min(Comparator.comparingLong(Map.Entry::getValue))
+                .filter(weakest -> weakest.getValue() < estimate)
+                .map(Map.Entry::getKey)
+                .ifPresent(weakest -> {
+                    candidates.remove(weakest);
+                    candidates.put(tagId, estimate);
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.mjc.school.service.trending;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingTagsRecorder {
+    private final TrendingTags trendingTags;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagUsageChanged(TagUsageChangedEvent event) {
+        trendingTags.record(event.tagIds(), event.delta());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.mjc.school.service.validator;
+
+import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.validator.annotation.NewsSelection;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+public class NewsSelectionValidator implements ConstraintValidator<NewsSelection, TagNewsDtoRequest> {
+
+    @Override
+    public boolean isValid(TagNewsDtoRequest request, ConstraintValidatorContext constraintValidatorContext) {
+        if (request == null) {
+            return true;
+        }
+
+        boolean hasNewsIds = request.newsIds() != null && !request.newsIds().isEmpty();
+        boolean hasFilter = request.filter() != null;
+        if (hasFilter ? hasCriteria(request.filter()) : hasNewsIds) {
+            return true;
+        }
+
+        constraintValidatorContext.disableDefaultConstraintViolation();
+        constraintValidatorContext
+                .buildConstraintViolationWithTemplate(constraintValidatorContext.getDefaultConstraintMessageTemplate())
+                .addPropertyNode(hasFilter ? "filter" : "newsIds")
+                .addConstraintViolation();
+        return false;
+    }
+
+    private static boolean hasCriteria(NewsQueryParams filter) {
+        return Stream.of(filter.title(), filter.content(), filter.authorName(), filter.tagIds(), filter.tagNames(),
+                        filter.createdFrom(), filter.createdTo(), filter.updatedSince())
+                .anyMatch(criterion -> criterion != null
+                        && !(criterion instanceof Collection<?> collection && collection.isEmpty()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.mjc.school.service.validator.annotation;
+
+import com.mjc.school.service.validator.NewsSelectionValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+@Constraint(validatedBy = NewsSelectionValidator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface NewsSelection {
+    String message() default "News ids or a filter with at least one criterion should be provided";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+package com.mjc.school.service.version;
+
+public record NewsListChangedEvent() {
+}
\ No newline at end of file
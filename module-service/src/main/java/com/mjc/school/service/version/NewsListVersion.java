@@ -0,0 +1,20 @@
+package com.mjc.school.service.version;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class NewsListVersion {
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsListChanged(NewsListChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
\ No newline at end of file
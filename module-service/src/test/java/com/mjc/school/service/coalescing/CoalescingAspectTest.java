@@ -0,0 +1,65 @@
+package com.mjc.school.service.coalescing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingAspectTest {
+    private static final Coalesced NEWS = new Coalesced() {
+        @Override
+        public String value() {
+            return "news.readById";
+        }
+
+        @Override
+        public long timeoutMillis() {
+            return 2000;
+        }
+
+        @Override
+        public Class<Coalesced> annotationType() {
+            return Coalesced.class;
+        }
+    };
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+    private CoalescingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new CoalescingAspect(requestCoalescer);
+    }
+
+    @Test
+    void coalesceOutsideTransaction() throws Throwable {
+        doReturn(new Object[]{1L}).when(joinPoint).getArgs();
+        doReturn("news").when(joinPoint).proceed();
+
+        assertThat(aspect.coalesce(joinPoint, NEWS)).isEqualTo("news");
+        assertThat(requestCoalescer.getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void bypassCoalescerInsideTransaction() throws Throwable {
+        doReturn("news").when(joinPoint).proceed();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(aspect.coalesce(joinPoint, NEWS)).isEqualTo("news");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertThat(requestCoalescer.getLoads()).isZero();
+        verify(joinPoint, never()).getArgs();
+    }
+}
\ No newline at end of file
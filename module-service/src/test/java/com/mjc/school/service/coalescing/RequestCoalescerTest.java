@@ -0,0 +1,108 @@
+package com.mjc.school.service.coalescing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+    @Test
+    void executeSharesInFlightLoad() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                    requestCoalescer.execute("news", List.of(1L), Duration.ofSeconds(5), () -> {
+                        loads.incrementAndGet();
+                        loadStarted.countDown();
+                        await(release);
+                        return "news";
+                    }), executor);
+            loadStarted.await(5, TimeUnit.SECONDS);
+            CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                    requestCoalescer.execute("news", List.of(1L), Duration.ofSeconds(5), () -> {
+                        loads.incrementAndGet();
+                        return "other";
+                    }), executor);
+            while (requestCoalescer.getCoalesced() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+            assertThat(loads).hasValue(1);
+            assertThat(requestCoalescer.getLoads()).isEqualTo(1);
+            assertThat(requestCoalescer.getCoalesced()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeLoadsSeparatelyForDifferentKeys() {
+        String first = requestCoalescer.execute("news", List.of(1L), Duration.ofSeconds(1), () -> "first");
+        String second = requestCoalescer.execute("news", List.of(2L), Duration.ofSeconds(1), () -> "second");
+
+        assertThat(first).isEqualTo("first");
+        assertThat(second).isEqualTo("second");
+        assertThat(requestCoalescer.getLoads()).isEqualTo(2);
+        assertThat(requestCoalescer.getCoalesced()).isZero();
+    }
+
+    @Test
+    void executeFallsBackToOwnLoadOnTimeout() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                    requestCoalescer.execute("news", List.of(1L), Duration.ofSeconds(5), () -> {
+                        loadStarted.countDown();
+                        await(release);
+                        return "slow";
+                    }), executor);
+            loadStarted.await(5, TimeUnit.SECONDS);
+
+            String actualResult = requestCoalescer.execute("news", List.of(1L), Duration.ofMillis(10), () -> "fast");
+            release.countDown();
+
+            assertThat(actualResult).isEqualTo("fast");
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+            assertThat(requestCoalescer.getTimeouts()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeRethrowsLoaderException() {
+        assertThatThrownBy(() -> requestCoalescer.execute("news", List.of(1L), Duration.ofSeconds(1), () -> {
+            throw new IllegalArgumentException("failed");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(requestCoalescer.execute("news", List.of(1L), Duration.ofSeconds(1), () -> "news"))
+                .isEqualTo("news");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
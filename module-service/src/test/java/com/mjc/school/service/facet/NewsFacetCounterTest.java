@@ -0,0 +1,94 @@
+package com.mjc.school.service.facet;
+
+import com.mjc.school.repository.impl.NewsRepositoryImpl;
+import com.mjc.school.repository.model.FacetCount;
+import com.mjc.school.repository.model.NewsFacets;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsFacetCounterTest {
+    @Mock
+    private NewsRepositoryImpl newsRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private NewsFacetCounter newsFacetCounter;
+
+    @BeforeEach
+    void setUp() {
+        FacetProperties properties = new FacetProperties();
+        properties.setTimeBudget(Duration.ofMillis(100));
+        properties.setLimit(5);
+        properties.setPoolSize(1);
+        newsFacetCounter = new NewsFacetCounter(newsRepository, transactionTemplate, properties);
+        doAnswer(invocation -> invocation.<TransactionCallback<NewsFacets>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        newsFacetCounter.destroy();
+    }
+
+    @Test
+    void count() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().title("title").build();
+        NewsFacets facets = new NewsFacets(List.of(new FacetCount(1L, "tag1", 3L)),
+                List.of(new FacetCount(2L, "author2", 1L)));
+        doReturn(facets).when(newsRepository).readFacetsByFilter(any(), anyInt(), any());
+
+        assertThat(newsFacetCounter.count(filter)).contains(facets);
+        verify(newsRepository).readFacetsByFilter(eq(filter), eq(5),
+                argThat(timeout -> timeout.compareTo(Duration.ZERO) > 0 && timeout.compareTo(Duration.ofMillis(100)) <= 0));
+    }
+
+    @Test
+    void countWhenTimeBudgetIsExceeded() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new NewsFacets(List.of(), List.of());
+        }).when(newsRepository).readFacetsByFilter(any(), anyInt(), any());
+
+        assertThat(newsFacetCounter.count(NewsSearchQueryParam.builder().build())).isEmpty();
+        release.countDown();
+    }
+
+    @Test
+    void countSkipsQueuedTaskAfterDeadline() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new NewsFacets(List.of(), List.of());
+        }).when(newsRepository).readFacetsByFilter(any(), anyInt(), any());
+
+        assertThat(newsFacetCounter.count(NewsSearchQueryParam.builder().title("first").build())).isEmpty();
+        assertThat(newsFacetCounter.count(NewsSearchQueryParam.builder().title("second").build())).isEmpty();
+        release.countDown();
+
+        verify(newsRepository, after(200).times(1)).readFacetsByFilter(any(), anyInt(), any());
+    }
+
+    @Test
+    void countWhenRepositoryFails() {
+        doThrow(new IllegalStateException("failed")).when(newsRepository).readFacetsByFilter(any(), anyInt(), any());
+
+        assertThat(newsFacetCounter.count(NewsSearchQueryParam.builder().build())).isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.impl.AuthorPurgeJobRepositoryImpl;
+import com.mjc.school.repository.impl.AuthorRepositoryImpl;
+import com.mjc.school.repository.impl.NewsRepositoryImpl;
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.AuthorPurgeJob;
+import com.mjc.school.repository.model.PurgeJobStatus;
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
+import com.mjc.school.service.job.AuthorPurgeRequestedEvent;
+import com.mjc.school.service.mapper.AuthorPurgeJobMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorPurgeServiceTest {
+    @Mock
+    private AuthorRepositoryImpl authorRepository;
+    @Mock
+    private NewsRepositoryImpl newsRepository;
+    @Mock
+    private AuthorPurgeJobRepositoryImpl authorPurgeJobRepository;
+    @Mock
+    private AuthorPurgeJobMapper authorPurgeJobMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private AuthorPurgeServiceImpl authorPurgeService;
+
+    @Test
+    void purge() {
+        doReturn(Optional.of(buildAuthor(1L))).when(authorRepository).readById(1L);
+        doReturn(Optional.of(buildAuthor(2L))).when(authorRepository).readById(2L);
+        doReturn(10L).when(newsRepository).countByAuthorId(any());
+        AuthorPurgeJob job = buildPurgeJob();
+        doReturn(job).when(authorPurgeJobRepository).create(any());
+        AuthorPurgeJobDtoResponse expectedResult = buildPurgeJobResponse();
+        doReturn(expectedResult).when(authorPurgeJobMapper).modelToDto(any());
+
+        Optional<AuthorPurgeJobDtoResponse> actualResult = authorPurgeService.purge(1L, 2L);
+
+        assertThat(actualResult).contains(expectedResult);
+        verify(newsRepository).countByAuthorId(1L);
+        verify(authorPurgeJobRepository).create(argThat(created -> created.getAuthorId().equals(1L)
+                && created.getTargetAuthorId().equals(2L)
+                && created.getStatus() == PurgeJobStatus.PENDING
+                && created.getTotalNews() == 10L));
+        verify(eventPublisher).publishEvent(new AuthorPurgeRequestedEvent(1L));
+        verify(authorPurgeJobMapper).modelToDto(job);
+        verifyNoMoreInteractions(authorPurgeJobRepository, eventPublisher, authorPurgeJobMapper);
+    }
+
+    @Test
+    void purgeWhenTargetAuthorDoesNotExist() {
+        doReturn(Optional.of(buildAuthor(1L))).when(authorRepository).readById(1L);
+        doReturn(Optional.empty()).when(authorRepository).readById(2L);
+
+        Optional<AuthorPurgeJobDtoResponse> actualResult = authorPurgeService.purge(1L, 2L);
+
+        assertThat(actualResult).isEmpty();
+        verifyNoInteractions(newsRepository, authorPurgeJobRepository, eventPublisher, authorPurgeJobMapper);
+    }
+
+    @Test
+    void purgeWhenAuthorIsTarget() {
+        Optional<AuthorPurgeJobDtoResponse> actualResult = authorPurgeService.purge(1L, 1L);
+
+        assertThat(actualResult).isEmpty();
+        verifyNoInteractions(authorRepository, newsRepository, authorPurgeJobRepository, eventPublisher);
+    }
+
+    @Test
+    void readById() {
+        AuthorPurgeJob job = buildPurgeJob();
+        doReturn(Optional.of(job)).when(authorPurgeJobRepository).readById(any());
+        AuthorPurgeJobDtoResponse expectedResult = buildPurgeJobResponse();
+        doReturn(expectedResult).when(authorPurgeJobMapper).modelToDto(any());
+
+        Optional<AuthorPurgeJobDtoResponse> actualResult = authorPurgeService.readById(1L);
+
+        assertThat(actualResult).contains(expectedResult);
+        verify(authorPurgeJobRepository).readById(1L);
+        verify(authorPurgeJobMapper).modelToDto(job);
+        verifyNoMoreInteractions(authorPurgeJobRepository, authorPurgeJobMapper);
+    }
+
+    private Author buildAuthor(Long id) {
+        return Author.builder()
+                .id(id)
+                .name("author" + id)
+                .build();
+    }
+
+    private AuthorPurgeJob buildPurgeJob() {
+        return AuthorPurgeJob.builder()
+                .id(1L)
+                .authorId(1L)
+                .targetAuthorId(2L)
+                .status(PurgeJobStatus.PENDING)
+                .totalNews(10L)
+                .build();
+    }
+
+    private AuthorPurgeJobDtoResponse buildPurgeJobResponse() {
+        return AuthorPurgeJobDtoResponse.builder()
+                .id(1L)
+                .authorId(1L)
+                .targetAuthorId(2L)
+                .status("PENDING")
+                .totalNews(10L)
+                .build();
+    }
+}
\ No newline at end of file
@@ -4,12 +4,15 @@ import com.mjc.school.repository.impl.AuthorRepositoryImpl;
 import com.mjc.school.repository.model.Author;
 import com.mjc.school.service.dto.author.AuthorDtoRequest;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.author.AuthorNamesDtoRequest;
 import com.mjc.school.service.mapper.AuthorMapper;
+import com.mjc.school.service.version.NewsListChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -28,6 +31,8 @@ class AuthorServiceTest {
     private AuthorRepositoryImpl authorRepository;
     @Mock
     private AuthorMapper authorMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private AuthorServiceImpl authorService;
 
@@ -47,6 +52,22 @@ class AuthorServiceTest {
         verifyNoMoreInteractions(authorRepository, authorMapper);
     }
 
+    @Test
+    void searchByName() {
+        List<Author> authors = List.of(buildAuthor(1L, "author1"));
+        Pageable pageable = PageRequest.of(0, 10);
+        doReturn(authors).when(authorRepository).readAllByNameContaining(any(), any());
+        List<AuthorDtoResponse> expectedResult = List.of(buildAuthorResponse(1L, "author1"));
+        doReturn(expectedResult).when(authorMapper).modelListToDtoList(any());
+
+        List<AuthorDtoResponse> actualResult = authorService.searchByName("thor", pageable);
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+        verify(authorRepository).readAllByNameContaining("thor", pageable);
+        verify(authorMapper).modelListToDtoList(authors);
+        verifyNoMoreInteractions(authorRepository, authorMapper);
+    }
+
     @Test
     void readById() {
         Author author = buildAuthor(1L, "author1");
@@ -115,6 +136,23 @@ class AuthorServiceTest {
         verifyNoMoreInteractions(authorRepository, authorMapper);
     }
 
+    @Test
+    void readOrCreateAllByNames() {
+        List<Author> authors = List.of(buildAuthor(2L, "author2"), buildAuthor(1L, "author1"));
+        doReturn(authors).when(authorRepository).readOrCreateAllByNames(any());
+        List<AuthorDtoResponse> expectedResult = List.of(buildAuthorResponse(2L, "author2"),
+                buildAuthorResponse(1L, "author1"));
+        doReturn(expectedResult).when(authorMapper).modelListToDtoList(any());
+
+        List<AuthorDtoResponse> actualResult = authorService.readOrCreateAllByNames(
+                AuthorNamesDtoRequest.builder().names(List.of("author2", "author1")).build());
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+        verify(authorRepository).readOrCreateAllByNames(List.of("author2", "author1"));
+        verify(authorMapper).modelListToDtoList(authors);
+        verifyNoMoreInteractions(authorRepository, authorMapper);
+    }
+
     @Test
     void createWhenAuthorDoesNotSave() {
         AuthorDtoRequest authorRequest = buildAuthorRequest();
@@ -146,6 +184,7 @@ class AuthorServiceTest {
         verify(authorRepository).readById(1L);
         verify(authorRepository).update(author);
         verify(authorMapper).modelToDto(author);
+        verify(eventPublisher).publishEvent(new NewsListChangedEvent());
         verifyNoMoreInteractions(authorRepository, authorMapper);
     }
 
@@ -171,6 +210,7 @@ class AuthorServiceTest {
         assertThat(actualResult).isTrue();
         verify(authorRepository).readById(1L);
         verify(authorRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new NewsListChangedEvent());
         verifyNoMoreInteractions(authorRepository);
     }
 
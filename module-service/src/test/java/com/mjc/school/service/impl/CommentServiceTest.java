@@ -0,0 +1,173 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.impl.CommentCountRepositoryImpl;
+import com.mjc.school.repository.impl.CommentRepositoryImpl;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.CommentCursor;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.service.CommentService;
+import com.mjc.school.service.coalescing.CoalescingAspect;
+import com.mjc.school.service.coalescing.RequestCoalescer;
+import com.mjc.school.service.cursor.CommentCursorCodec;
+import com.mjc.school.service.cursor.InvalidCursorException;
+import com.mjc.school.service.dto.comment.CommentDtoRequest;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentPageDtoResponse;
+import com.mjc.school.service.mapper.CommentMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, 1, 1, 12, 0, 0, 123456000);
+    @Mock
+    private CommentRepositoryImpl commentRepository;
+    @Mock
+    private CommentCountRepositoryImpl commentCountRepository;
+    @Mock
+    private CommentMapper commentMapper;
+    @InjectMocks
+    private CommentServiceImpl commentService;
+
+    @Test
+    void create() {
+        CommentDtoRequest request = CommentDtoRequest.builder().content("comment1").newsId(1L).build();
+        Comment comment = buildComment(1L);
+        CommentDtoResponse expectedResult = CommentDtoResponse.builder().id(1L).content("comment1").build();
+        doReturn(comment).when(commentMapper).dtoToModel(any());
+        doReturn(comment).when(commentRepository).create(any());
+        doReturn(expectedResult).when(commentMapper).modelToDto(any());
+
+        CommentDtoResponse actualResult = commentService.create(request);
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+        verify(commentRepository).create(comment);
+        verify(commentCountRepository).addDelta(1L, 1);
+        verifyNoMoreInteractions(commentRepository, commentCountRepository);
+    }
+
+    @Test
+    void deleteById() {
+        Comment comment = buildComment(1L);
+        comment.setNews(News.builder().id(2L).build());
+        doReturn(Optional.of(comment)).when(commentRepository).readById(any());
+        doReturn(true).when(commentRepository).deleteById(any());
+
+        boolean actualResult = commentService.deleteById(1L);
+
+        assertThat(actualResult).isTrue();
+        verify(commentRepository).readById(1L);
+        verify(commentRepository).deleteById(1L);
+        verify(commentCountRepository).addDelta(2L, -1);
+        verifyNoMoreInteractions(commentRepository, commentCountRepository);
+    }
+
+    @Test
+    void deleteByIdWhenCommentDoesNotExist() {
+        doReturn(Optional.empty()).when(commentRepository).readById(any());
+
+        boolean actualResult = commentService.deleteById(1L);
+
+        assertThat(actualResult).isFalse();
+        verify(commentRepository).readById(1L);
+        verifyNoMoreInteractions(commentRepository);
+        verifyNoInteractions(commentCountRepository);
+    }
+
+    @Test
+    void readPageByNewsId() {
+        List<Comment> comments = List.of(buildComment(1L), buildComment(2L), buildComment(3L));
+        doReturn(comments).when(commentRepository).readAllByNewsId(any(), anyInt(), anyInt());
+        doReturn(List.of()).when(commentMapper).modelListToSummaryDtoList(any());
+
+        CommentPageDtoResponse actualResult = commentService.readPageByNewsId(1L, null, PageRequest.of(1, 2));
+
+        assertThat(CommentCursorCodec.decode(actualResult.nextCursor())).isEqualTo(new CommentCursor(CREATED, 2L));
+        verify(commentRepository).readAllByNewsId(1L, 2, 3);
+        verify(commentMapper).modelListToSummaryDtoList(comments.subList(0, 2));
+        verifyNoMoreInteractions(commentRepository);
+    }
+
+    @Test
+    void readPageByNewsIdWithCursor() {
+        CommentCursor cursor = new CommentCursor(CREATED, 2L);
+        List<Comment> comments = List.of(buildComment(3L));
+        doReturn(comments).when(commentRepository).readAllByNewsIdAfter(any(), any(), anyInt());
+        doReturn(List.of()).when(commentMapper).modelListToSummaryDtoList(any());
+
+        CommentPageDtoResponse actualResult = commentService.readPageByNewsId(1L, CommentCursorCodec.encode(cursor),
+                PageRequest.of(0, 2));
+
+        assertThat(actualResult.nextCursor()).isNull();
+        verify(commentRepository).readAllByNewsIdAfter(1L, cursor, 3);
+        verify(commentMapper).modelListToSummaryDtoList(comments);
+        verifyNoMoreInteractions(commentRepository);
+    }
+
+    @Test
+    void readPageByNewsIdCoalescesConcurrentRequests() throws Exception {
+        RequestCoalescer requestCoalescer = new RequestCoalescer();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(commentService);
+        proxyFactory.addAspect(new CoalescingAspect(requestCoalescer));
+        CommentService proxy = proxyFactory.getProxy();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            loadStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        }).when(commentRepository).readAllByNewsId(any(), anyInt(), anyInt());
+        doReturn(List.of()).when(commentMapper).modelListToSummaryDtoList(any());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<CommentPageDtoResponse> leader = CompletableFuture.supplyAsync(() ->
+                    proxy.readPageByNewsId(1L, null, PageRequest.of(0, 2)), executor);
+            loadStarted.await(5, TimeUnit.SECONDS);
+            CompletableFuture<CommentPageDtoResponse> follower = CompletableFuture.supplyAsync(() ->
+                    proxy.readPageByNewsId(1L, null, PageRequest.of(0, 2)), executor);
+            while (requestCoalescer.getCoalesced() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+            verify(commentRepository).readAllByNewsId(1L, 0, 3);
+            verifyNoMoreInteractions(commentRepository);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void readPageByNewsIdWithInvalidCursor() {
+        assertThatThrownBy(() -> commentService.readPageByNewsId(1L, "invalid", PageRequest.of(0, 2)))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(commentRepository, commentMapper);
+    }
+
+    private Comment buildComment(Long id) {
+        Comment comment = Comment.builder().id(id).content("comment" + id).build();
+        comment.setCreateDate(CREATED);
+        return comment;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.impl.NewsBodyRepositoryImpl;
+import com.mjc.school.repository.impl.NewsRepositoryImpl;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsBody;
+import com.mjc.school.service.compression.DeflateCodec;
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
+import com.mjc.school.service.mapper.NewsBodyMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsBodyServiceTest {
+    private static final String BODY = "Full Article Body. ".repeat(100);
+    private static final String CONTENT = "Short Content";
+    @Mock
+    private NewsRepositoryImpl newsRepository;
+    @Mock
+    private NewsBodyRepositoryImpl newsBodyRepository;
+    @Mock
+    private NewsBodyMapper newsBodyMapper;
+    @InjectMocks
+    private NewsBodyServiceImpl newsBodyService;
+
+    @Test
+    void update() {
+        doReturn(Optional.of(News.builder().id(1L).content(CONTENT).build())).when(newsRepository).readById(any());
+        doAnswer(invocation -> invocation.getArgument(0)).when(newsBodyRepository).save(any());
+        NewsBodyDtoResponse expectedResult = NewsBodyDtoResponse.builder().newsId(1L).length(BODY.length()).build();
+        doReturn(expectedResult).when(newsBodyMapper).modelToDto(any());
+
+        Optional<NewsBodyDtoResponse> actualResult = newsBodyService.update(1L, BODY);
+
+        assertThat(actualResult).contains(expectedResult);
+        verify(newsRepository).readById(1L);
+        verify(newsBodyRepository).save(argThat(saved -> saved.getId().equals(1L)
+                && saved.getLength() == BODY.length()
+                && saved.getBody().length < BODY.length()
+                && decompress(saved).equals(BODY)
+                && saved.getSearchText().equals((CONTENT + "\n" + BODY).toLowerCase())));
+        verifyNoMoreInteractions(newsRepository, newsBodyRepository);
+    }
+
+    @Test
+    void updateWhenNewsDoesNotExist() {
+        doReturn(Optional.empty()).when(newsRepository).readById(any());
+
+        Optional<NewsBodyDtoResponse> actualResult = newsBodyService.update(1L, BODY);
+
+        assertThat(actualResult).isEmpty();
+        verify(newsRepository).readById(1L);
+        verifyNoInteractions(newsBodyRepository, newsBodyMapper);
+    }
+
+    @Test
+    void updateSearchTextWithoutBody() {
+        doReturn(Optional.empty()).when(newsBodyRepository).readByNewsId(any());
+
+        newsBodyService.updateSearchText(1L, CONTENT);
+
+        verify(newsBodyRepository).readByNewsId(1L);
+        verify(newsBodyRepository).save(argThat(saved -> saved.getId().equals(1L)
+                && saved.getBody() == null
+                && saved.getSearchText().equals(CONTENT.toLowerCase())));
+        verifyNoMoreInteractions(newsBodyRepository);
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    void updateSearchTextKeepsBody() {
+        NewsBody newsBody = NewsBody.builder()
+                .id(1L)
+                .body(DeflateCodec.compress(BODY))
+                .length(BODY.length())
+                .build();
+        doReturn(Optional.of(newsBody)).when(newsBodyRepository).readByNewsId(any());
+
+        newsBodyService.updateSearchText(1L, CONTENT);
+
+        verify(newsBodyRepository).save(argThat(saved -> decompress(saved).equals(BODY)
+                && saved.getLength() == BODY.length()
+                && saved.getSearchText().equals((CONTENT + "\n" + BODY).toLowerCase())));
+    }
+
+    @Test
+    void readCompressedByNewsId() {
+        byte[] compressed = DeflateCodec.compress(BODY);
+        doReturn(Optional.of(compressed)).when(newsBodyRepository).readBodyByNewsId(any());
+
+        Optional<byte[]> actualResult = newsBodyService.readCompressedByNewsId(1L);
+
+        assertThat(actualResult).contains(compressed);
+        verify(newsBodyRepository).readBodyByNewsId(1L);
+        verifyNoMoreInteractions(newsBodyRepository);
+    }
+
+    private String decompress(NewsBody newsBody) {
+        try (InputStream inflater = DeflateCodec.decompress(newsBody.getBody())) {
+            return new String(inflater.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
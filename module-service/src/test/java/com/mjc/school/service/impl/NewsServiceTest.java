@@ -2,26 +2,50 @@ package com.mjc.school.service.impl;
 
 import com.mjc.school.repository.impl.NewsRepositoryImpl;
 import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.FacetCount;
 import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.NewsFacets;
+import com.mjc.school.repository.model.NewsField;
 import com.mjc.school.repository.model.NewsSearchQueryParam;
+import com.mjc.school.repository.model.NewsVersion;
+import com.mjc.school.repository.model.UnknownFieldException;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
 import com.mjc.school.service.dto.news.NewsDtoRequest;
+import com.mjc.school.service.dto.news.FacetCountDtoResponse;
 import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFacetsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFilterDtoResponse;
 import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.news.NewsVersionDtoResponse;
+import com.mjc.school.service.dto.page.PageDtoResponse;
+import com.mjc.school.service.dto.page.TotalMode;
+import com.mjc.school.service.facet.NewsFacetCounter;
+import com.mjc.school.service.mapper.NewsFacetMapper;
 import com.mjc.school.service.mapper.NewsFilterMapper;
 import com.mjc.school.service.mapper.NewsMapper;
+import com.mjc.school.service.page.NewsTotals;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import com.mjc.school.service.related.RelatedNewsIndex;
+import com.mjc.school.service.trending.TagUsageChangedEvent;
+import com.mjc.school.service.version.NewsListChangedEvent;
+import com.mjc.school.service.version.NewsListVersion;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
@@ -33,9 +57,23 @@ class NewsServiceTest {
     @Mock
     private NewsRepositoryImpl newsRepository;
     @Mock
+    private NewsBodyServiceImpl newsBodyService;
+    @Mock
     private NewsMapper newsMapper;
     @Mock
     private NewsFilterMapper newsFilterMapper;
+    @Mock
+    private NewsFacetMapper newsFacetMapper;
+    @Mock
+    private NewsFacetCounter newsFacetCounter;
+    @Mock
+    private NewsTotals newsTotals;
+    @Mock
+    private RelatedNewsIndex relatedNewsIndex;
+    @Mock
+    private NewsListVersion newsListVersion;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -55,6 +93,64 @@ class NewsServiceTest {
         verifyNoMoreInteractions(newsRepository, newsMapper);
     }
 
+    @Test
+    void readAllWithFields() {
+        List<News> news = List.of(buildNews(1L, "title1"));
+        Pageable pageable = PageRequest.of(0, 10);
+        doReturn(news).when(newsRepository).readAll(any(), anySet());
+        List<NewsDtoResponse> expectedResult = List.of(buildNewsResponse(1L, "title1"));
+        doReturn(expectedResult).when(newsMapper).fullModelListToDtoList(any());
+
+        List<NewsDtoResponse> actualResult = newsService.readAll(pageable,
+                Set.of("author.name", "tags.name", "commentCount", "viewCount"));
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+        verify(newsRepository).readAll(pageable, EnumSet.of(NewsField.ID, NewsField.AUTHOR, NewsField.TAGS,
+                NewsField.COMMENT_COUNT, NewsField.VIEW_COUNT));
+        verify(newsMapper).fullModelListToDtoList(news);
+        verifyNoMoreInteractions(newsRepository, newsMapper);
+    }
+
+    @Test
+    void readAllWithUnknownField() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrowsExactly(UnknownFieldException.class, () -> newsService.readAll(pageable, Set.of("view_count")));
+        verifyNoInteractions(newsRepository, newsMapper);
+    }
+
+    @Test
+    void readAllByIds() {
+        List<News> news = List.of(buildNews(2L, "title2"), buildNews(1L, "title1"));
+        doReturn(news).when(newsRepository).readAllByIds(any());
+        List<NewsDtoResponse> expectedResult = List.of(buildNewsResponse(2L, "title2"), buildNewsResponse(1L, "title1"));
+        doReturn(expectedResult).when(newsMapper).modelListToDtoList(any());
+
+        List<NewsDtoResponse> actualResult = newsService.readAllByIds(List.of(2L, 1L));
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+        verify(newsRepository).readAllByIds(List.of(2L, 1L));
+        verify(newsMapper).modelListToDtoList(news);
+        verifyNoMoreInteractions(newsRepository, newsMapper);
+    }
+
+    @Test
+    void readRelated() {
+        List<News> news = List.of(buildNews(3L, "title3"), buildNews(2L, "title2"));
+        doReturn(new long[]{3L, 2L}).when(relatedNewsIndex).related(anyLong());
+        doReturn(news).when(newsRepository).readAllByIds(any());
+        List<NewsDtoResponse> expectedResult = List.of(buildNewsResponse(3L, "title3"), buildNewsResponse(2L, "title2"));
+        doReturn(expectedResult).when(newsMapper).modelListToDtoList(any());
+
+        List<NewsDtoResponse> actualResult = newsService.readRelated(1L);
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+        verify(relatedNewsIndex).related(1L);
+        verify(newsRepository).readAllByIds(List.of(3L, 2L));
+        verify(newsMapper).modelListToDtoList(news);
+        verifyNoMoreInteractions(newsRepository, newsMapper);
+    }
+
     @Test
     void readById() {
         News news = buildNews(1L, "title1");
@@ -94,7 +190,10 @@ class NewsServiceTest {
         assertThat(actualResult).isEqualTo(expectedResult);
         verify(newsMapper).dtoToModel(newsRequest);
         verify(newsRepository).create(news);
+        verify(newsBodyService).updateSearchText(1L, news.getContent());
         verify(newsMapper).modelToDto(news);
+        verify(eventPublisher).publishEvent(new TagUsageChangedEvent(newsRequest.tagIds(), 1));
+        verify(eventPublisher).publishEvent(new NewsTagsChangedEvent(List.of(1L)));
         verifyNoMoreInteractions(newsRepository, newsMapper);
     }
 
@@ -109,6 +208,7 @@ class NewsServiceTest {
         verify(newsMapper).dtoToModel(newsRequest);
         verify(newsRepository).create(news);
         verifyNoMoreInteractions(newsRepository, newsMapper);
+        verifyNoInteractions(newsBodyService, eventPublisher);
     }
 
     @Test
@@ -127,7 +227,9 @@ class NewsServiceTest {
         verify(newsRepository).readById(1L);
         verify(newsMapper).dtoToModel(newsRequest);
         verify(newsRepository).update(news);
+        verify(newsBodyService).updateSearchText(1L, news.getContent());
         verify(newsMapper).modelToDto(news);
+        verify(eventPublisher).publishEvent(new NewsListChangedEvent());
         verifyNoMoreInteractions(newsRepository, newsMapper);
     }
 
@@ -147,12 +249,17 @@ class NewsServiceTest {
         News news = buildNews(1L, "title1");
         doReturn(Optional.of(news)).when(newsRepository).readById(any());
         doReturn(true).when(newsRepository).deleteById(any());
+        doReturn(Map.of(1L, List.of(2L, 3L))).when(newsRepository).readTagIdsByNewsIds(any());
 
         boolean actualResult = newsService.deleteById(1L);
 
         assertThat(actualResult).isTrue();
+        verify(newsRepository).readTagIdsByNewsIds(List.of(1L));
         verify(newsRepository).readById(1L);
         verify(newsRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new TagUsageChangedEvent(List.of(2L, 3L), -1));
+        verify(eventPublisher).publishEvent(new NewsTagsChangedEvent(List.of(1L)));
+        verify(eventPublisher).publishEvent(new NewsListChangedEvent());
         verifyNoMoreInteractions(newsRepository);
     }
 
@@ -162,6 +269,7 @@ class NewsServiceTest {
 
         boolean actualResult = newsService.deleteById(1L);
         assertThat(actualResult).isFalse();
+        verify(newsRepository).readTagIdsByNewsIds(List.of(1L));
         verify(newsRepository).readById(1L);
         verifyNoMoreInteractions(newsRepository);
     }
@@ -186,6 +294,94 @@ class NewsServiceTest {
         verifyNoMoreInteractions(newsRepository, newsFilterMapper, newsMapper);
     }
 
+    @Test
+    void readPage() {
+        List<News> news = List.of(buildNews(1L, "title1"));
+        Pageable pageable = PageRequest.of(1, 1);
+        doReturn(news).when(newsRepository).readAll(any());
+        List<NewsDtoResponse> content = List.of(buildNewsResponse(1L, "title1"));
+        doReturn(content).when(newsMapper).modelListToDtoList(any());
+        doReturn(42L).when(newsTotals).count(any(TotalMode.class));
+
+        PageDtoResponse<NewsDtoResponse> actualResult = newsService.readPage(pageable, TotalMode.ESTIMATED);
+
+        assertThat(actualResult).isEqualTo(PageDtoResponse.<NewsDtoResponse>builder()
+                .content(content)
+                .page(1)
+                .size(1)
+                .total(42L)
+                .totalMode(TotalMode.ESTIMATED)
+                .build());
+        verify(newsRepository).readAll(pageable);
+        verify(newsTotals).count(TotalMode.ESTIMATED);
+        verifyNoMoreInteractions(newsRepository, newsTotals);
+    }
+
+    @Test
+    void readPageByFilter() {
+        NewsQueryParams newsQueryParams = buildNewsDtoFilter();
+        NewsSearchQueryParam newsSearchQueryParam = buildNewsFilter();
+        doReturn(newsSearchQueryParam).when(newsFilterMapper).dtoToModel(any());
+        List<News> news = List.of(buildNews(1L, "title1"));
+        Pageable pageable = PageRequest.of(0, 2);
+        doReturn(news).when(newsRepository).readAllByFilter(any(), any());
+        List<NewsDtoResponse> content = List.of(buildNewsResponse(1L, "title1"));
+        doReturn(content).when(newsMapper).fullModelListToDtoList(any());
+        doReturn(1L).when(newsTotals).count(any(), any());
+
+        PageDtoResponse<NewsDtoResponse> actualResult =
+                newsService.readPageByFilter(newsQueryParams, pageable, TotalMode.CACHED);
+
+        assertThat(actualResult.content()).isEqualTo(content);
+        assertThat(actualResult.total()).isEqualTo(1L);
+        assertThat(actualResult.totalMode()).isEqualTo(TotalMode.CACHED);
+        verify(newsRepository).readAllByFilter(newsSearchQueryParam, pageable);
+        verify(newsTotals).count(newsSearchQueryParam, TotalMode.CACHED);
+        verifyNoMoreInteractions(newsRepository, newsTotals);
+    }
+
+    @Test
+    void readAllByFilterWithFacets() {
+        NewsQueryParams newsQueryParams = buildNewsDtoFilter();
+        NewsSearchQueryParam newsSearchQueryParam = buildNewsFilter();
+        doReturn(newsSearchQueryParam).when(newsFilterMapper).dtoToModel(any());
+        List<News> news = List.of(buildNews(1L, "title1"));
+        Pageable pageable = PageRequest.of(0, 2);
+        doReturn(news).when(newsRepository).readAllByFilter(any(), any());
+        List<NewsDtoResponse> content = List.of(buildNewsResponse(1L, "title1"));
+        doReturn(content).when(newsMapper).fullModelListToDtoList(any());
+        NewsFacets facets = new NewsFacets(List.of(new FacetCount(1L, "tag1", 1L)), List.of(new FacetCount(1L, "author1", 1L)));
+        doReturn(Optional.of(facets)).when(newsFacetCounter).count(any());
+        NewsFacetsDtoResponse facetsResponse = NewsFacetsDtoResponse.builder()
+                .tags(List.of(FacetCountDtoResponse.builder().id(1L).name("tag1").count(1L).build()))
+                .authors(List.of(FacetCountDtoResponse.builder().id(1L).name("author1").count(1L).build()))
+                .build();
+        doReturn(facetsResponse).when(newsFacetMapper).modelToDto(any(NewsFacets.class));
+
+        NewsFilterDtoResponse actualResult = newsService.readAllByFilterWithFacets(newsQueryParams, pageable);
+
+        assertThat(actualResult).isEqualTo(NewsFilterDtoResponse.builder().content(content).facets(facetsResponse).build());
+        verify(newsRepository).readAllByFilter(newsSearchQueryParam, pageable);
+        verify(newsFacetCounter).count(newsSearchQueryParam);
+        verify(newsFacetMapper).modelToDto(facets);
+        verifyNoMoreInteractions(newsRepository, newsFacetCounter, newsFacetMapper);
+    }
+
+    @Test
+    void readAllByFilterWithFacetsWhenFacetsTimeOut() {
+        NewsSearchQueryParam newsSearchQueryParam = buildNewsFilter();
+        doReturn(newsSearchQueryParam).when(newsFilterMapper).dtoToModel(any());
+        doReturn(Collections.emptyList()).when(newsRepository).readAllByFilter(any(), any());
+        doReturn(List.of()).when(newsMapper).fullModelListToDtoList(any());
+        doReturn(Optional.empty()).when(newsFacetCounter).count(any());
+
+        NewsFilterDtoResponse actualResult = newsService.readAllByFilterWithFacets(buildNewsDtoFilter(), PageRequest.of(0, 2));
+
+        assertThat(actualResult.content()).isEmpty();
+        assertThat(actualResult.facets()).isNull();
+        verifyNoInteractions(newsFacetMapper);
+    }
+
     @Test
     void readAllByFilterWhenNewsDoesNotExist() {
         NewsQueryParams newsQueryParams = buildNewsDtoFilter();
@@ -202,6 +398,28 @@ class NewsServiceTest {
         verifyNoMoreInteractions(newsRepository, newsFilterMapper);
     }
 
+    @Test
+    void readVersion() {
+        doReturn(7L).when(newsListVersion).current();
+
+        long actualResult = newsService.readVersion();
+
+        assertThat(actualResult).isEqualTo(7L);
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    void readVersionById() {
+        LocalDateTime lastUpdatedDate = LocalDateTime.of(2023, 1, 1, 12, 0);
+        doReturn(Optional.of(new NewsVersion(lastUpdatedDate, 1L, 3L, 4L))).when(newsRepository).readVersionById(any());
+
+        Optional<NewsVersionDtoResponse> actualResult = newsService.readVersionById(1L);
+
+        assertThat(actualResult).contains(new NewsVersionDtoResponse(lastUpdatedDate, 1L, 3L, 4L));
+        verify(newsRepository).readVersionById(1L);
+        verifyNoMoreInteractions(newsRepository);
+    }
+
     private NewsDtoResponse buildNewsResponse(Long id, String title) {
         return NewsDtoResponse.builder()
                 .id(id)
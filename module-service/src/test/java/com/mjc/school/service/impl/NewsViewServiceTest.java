@@ -0,0 +1,105 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.repository.impl.NewsRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsViewServiceTest {
+    @Mock
+    private NewsRepositoryImpl newsRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private NewsViewServiceImpl newsViewService;
+
+    @Test
+    void flush() {
+        doAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        newsViewService.registerView(1L);
+        newsViewService.registerView(2L);
+        newsViewService.registerView(1L);
+
+        newsViewService.flush();
+        newsViewService.flush();
+
+        verify(newsRepository).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+        verifyNoMoreInteractions(newsRepository);
+    }
+
+    @Test
+    void flushWhenNothingWasViewed() {
+        newsViewService.flush();
+
+        verifyNoInteractions(newsRepository, transactionTemplate);
+    }
+
+    @Test
+    void flushKeepsViewsWhenUpdateFails() {
+        doThrow(new IllegalStateException()).doAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0)
+                        .doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        newsViewService.registerView(1L);
+
+        newsViewService.flush();
+        newsViewService.registerView(1L);
+        newsViewService.flush();
+
+        verify(newsRepository).addViewCounts(Map.of(1L, 2L));
+        verifyNoMoreInteractions(newsRepository);
+    }
+
+    @Test
+    void flushDoesNotLoseConcurrentViews() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doAnswer(invocation -> {
+            invocation.<Map<Long, Long>>getArgument(0).values().forEach(flushed::addAndGet);
+            return 0;
+        }).when(newsRepository).addViewCounts(any());
+        int threads = 4;
+        int viewsPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                viewers.add(executor.submit(() -> {
+                    for (int view = 0; view < viewsPerThread; view++) {
+                        newsViewService.registerView((long) view % 3);
+                    }
+                }));
+            }
+            for (Future<?> viewer : viewers) {
+                while (!viewer.isDone()) {
+                    newsViewService.flush();
+                }
+                viewer.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        newsViewService.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+}
\ No newline at end of file
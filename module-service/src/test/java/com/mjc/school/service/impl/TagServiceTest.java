@@ -1,17 +1,35 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.repository.impl.NewsRepositoryImpl;
 import com.mjc.school.repository.impl.TagRepositoryImpl;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
 import com.mjc.school.repository.model.Tag;
+import com.mjc.school.repository.model.TagUsage;
+import com.mjc.school.service.dto.news.NewsQueryParams;
 import com.mjc.school.service.dto.tag.TagDtoRequest;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoResponse;
+import com.mjc.school.service.dto.tag.TrendingTagDtoResponse;
+import com.mjc.school.service.mapper.NewsFilterMapper;
 import com.mjc.school.service.mapper.TagMapper;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import com.mjc.school.service.related.TagDeletedEvent;
+import com.mjc.school.service.suggest.TagNameChangedEvent;
+import com.mjc.school.service.suggest.TagPrefixIndex;
+import com.mjc.school.service.trending.TagCount;
+import com.mjc.school.service.trending.TagUsageChangedEvent;
+import com.mjc.school.service.trending.TrendingTags;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -28,6 +46,18 @@ class TagServiceTest {
     private TagRepositoryImpl tagRepository;
     @Mock
     private TagMapper tagMapper;
+    @Mock
+    private NewsRepositoryImpl newsRepository;
+    @Mock
+    private NewsFilterMapper newsFilterMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private TrendingTags trendingTags;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TagPrefixIndex tagPrefixIndex;
     @InjectMocks
     private TagServiceImpl tagService;
 
@@ -102,6 +132,7 @@ class TagServiceTest {
         verify(tagMapper).dtoToModel(tagDtoRequest);
         verify(tagRepository).create(tag);
         verify(tagMapper).modelToDto(tag);
+        verify(eventPublisher).publishEvent(new TagNameChangedEvent(1L, "tag1"));
         verifyNoMoreInteractions(tagRepository, tagMapper);
     }
 
@@ -160,9 +191,22 @@ class TagServiceTest {
         assertThat(actualResult).isTrue();
         verify(tagRepository).readById(1L);
         verify(tagRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new TagDeletedEvent(1L));
         verifyNoMoreInteractions(tagRepository);
     }
 
+    @Test
+    void suggest() {
+        doReturn(List.of(new TagUsage(2L, "java", 5L), new TagUsage(1L, "javascript", 2L)))
+                .when(tagPrefixIndex).suggest(any(), anyInt());
+
+        List<TagDtoResponse> actualResult = tagService.suggest("ja", 10);
+
+        assertThat(actualResult).containsExactly(buildTagDtoResponse(2L, "java"), buildTagDtoResponse(1L, "javascript"));
+        verify(tagPrefixIndex).suggest("ja", 10);
+        verifyNoInteractions(tagRepository);
+    }
+
     @Test
     void deleteByIdWhenTagDoesNotExist() {
         doReturn(Optional.empty()).when(tagRepository).readById(any());
@@ -173,6 +217,123 @@ class TagServiceTest {
         verifyNoMoreInteractions(tagRepository);
     }
 
+    @Test
+    void attachToNews() {
+        doReturn(Optional.of(buildTag(1L, "tag1"))).when(tagRepository).readById(any());
+        doAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doReturn(2).when(tagRepository).attachToNews(any(), any());
+        TagNewsDtoRequest request = TagNewsDtoRequest.builder()
+                .newsIds(List.of(1L, 2L))
+                .build();
+
+        Optional<TagNewsDtoResponse> actualResult = tagService.attachToNews(1L, request);
+
+        assertThat(actualResult).contains(new TagNewsDtoResponse(1L, 2));
+        verify(tagRepository).readById(1L);
+        verify(tagRepository).attachToNews(1L, List.of(1L, 2L));
+        verify(eventPublisher).publishEvent(new TagUsageChangedEvent(List.of(1L), 2));
+        verify(eventPublisher).publishEvent(new NewsTagsChangedEvent(List.of(1L, 2L)));
+        verifyNoMoreInteractions(tagRepository, newsRepository);
+    }
+
+    @Test
+    void readTrending() {
+        doReturn(List.of(new TagCount(2L, 5), new TagCount(3L, 4), new TagCount(1L, 2))).when(trendingTags).top();
+        doReturn(List.of(buildTag(2L, "tag2"), buildTag(1L, "tag1"))).when(tagRepository).readAllByIds(any());
+
+        List<TrendingTagDtoResponse> actualResult = tagService.readTrending();
+
+        assertThat(actualResult).containsExactly(
+                TrendingTagDtoResponse.builder().id(2L).name("tag2").count(5).build(),
+                TrendingTagDtoResponse.builder().id(1L).name("tag1").count(2).build());
+        verify(tagRepository).readAllByIds(List.of(2L, 3L, 1L));
+        verifyNoMoreInteractions(tagRepository);
+    }
+
+    @Test
+    void attachToNewsWhenTagDoesNotExist() {
+        doReturn(Optional.empty()).when(tagRepository).readById(any());
+        TagNewsDtoRequest request = TagNewsDtoRequest.builder()
+                .newsIds(List.of(1L, 2L))
+                .build();
+
+        Optional<TagNewsDtoResponse> actualResult = tagService.attachToNews(1L, request);
+
+        assertThat(actualResult).isEmpty();
+        verify(tagRepository).readById(1L);
+        verifyNoMoreInteractions(tagRepository, newsRepository, transactionTemplate);
+    }
+
+    @Test
+    void detachFromNewsByFilter() {
+        NewsQueryParams filter = NewsQueryParams.builder()
+                .title("title")
+                .build();
+        NewsSearchQueryParam searchFilter = NewsSearchQueryParam.builder()
+                .title("title")
+                .build();
+        doReturn(Optional.of(buildTag(1L, "tag1"))).when(tagRepository).readById(any());
+        doReturn(searchFilter).when(newsFilterMapper).dtoToModel(any());
+        doReturn(List.of(3L, 5L)).when(newsRepository).readIdsByFilter(searchFilter, 0L, 1000);
+        doReturn(List.of()).when(newsRepository).readIdsByFilter(searchFilter, 5L, 1000);
+        doAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doReturn(2).when(tagRepository).detachFromNews(any(), any());
+        TagNewsDtoRequest request = TagNewsDtoRequest.builder()
+                .filter(filter)
+                .build();
+
+        Optional<TagNewsDtoResponse> actualResult = tagService.detachFromNews(1L, request);
+
+        assertThat(actualResult).contains(new TagNewsDtoResponse(1L, 2));
+        verify(tagRepository).readById(1L);
+        verify(newsFilterMapper).dtoToModel(filter);
+        verify(newsRepository).readIdsByFilter(searchFilter, 0L, 1000);
+        verify(newsRepository).readIdsByFilter(searchFilter, 5L, 1000);
+        verify(tagRepository).detachFromNews(1L, List.of(3L, 5L));
+        verify(eventPublisher).publishEvent(new TagUsageChangedEvent(List.of(1L), -2));
+        verifyNoMoreInteractions(tagRepository, newsRepository, newsFilterMapper);
+    }
+
+    @Test
+    void merge() {
+        Tag target = buildTag(2L, "tag2");
+        doReturn(Optional.of(buildTag(1L, "tag1"))).when(tagRepository).readById(1L);
+        doReturn(Optional.of(target)).when(tagRepository).readById(2L);
+        doAnswer(invocation -> invocation.<TransactionCallback<Boolean>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doReturn(List.of(3L, 5L)).when(tagRepository).readNewsIds(1L, 1000);
+        doReturn(2).when(tagRepository).attachToNews(any(), any());
+        TagDtoResponse expectedResult = buildTagDtoResponse(2L, "tag2");
+        doReturn(expectedResult).when(tagMapper).modelToDto(any());
+
+        Optional<TagDtoResponse> actualResult = tagService.merge(1L, 2L);
+
+        assertThat(actualResult).contains(expectedResult);
+        verify(tagRepository).readById(1L);
+        verify(tagRepository).readById(2L);
+        verify(tagRepository).readNewsIds(1L, 1000);
+        verify(tagRepository).attachToNews(2L, List.of(3L, 5L));
+        verify(tagRepository).detachFromNews(1L, List.of(3L, 5L));
+        verify(tagRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new TagUsageChangedEvent(List.of(2L), 2));
+        verify(eventPublisher).publishEvent(new TagDeletedEvent(1L));
+        verify(tagMapper).modelToDto(target);
+        verifyNoMoreInteractions(tagRepository, tagMapper);
+    }
+
+    @Test
+    void mergeWhenSourceTagDoesNotExist() {
+        doReturn(Optional.empty()).when(tagRepository).readById(any());
+
+        Optional<TagDtoResponse> actualResult = tagService.merge(1L, 2L);
+
+        assertThat(actualResult).isEmpty();
+        verify(tagRepository).readById(1L);
+        verifyNoMoreInteractions(tagRepository, tagMapper, transactionTemplate);
+    }
+
     private TagDtoRequest buildTagDtoRequest() {
         return TagDtoRequest.builder()
                 .name("tag1")
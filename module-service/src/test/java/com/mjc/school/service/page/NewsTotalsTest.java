@@ -0,0 +1,76 @@
+package com.mjc.school.service.page;
+
+import com.mjc.school.repository.impl.NewsRepositoryImpl;
+import com.mjc.school.repository.model.NewsSearchQueryParam;
+import com.mjc.school.service.cache.CacheNames;
+import com.mjc.school.service.dto.page.TotalMode;
+import com.mjc.school.service.related.NewsTagsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsTotalsTest {
+    @Mock
+    private NewsRepositoryImpl newsRepository;
+    private NewsTotals newsTotals;
+
+    @BeforeEach
+    void setUp() {
+        newsTotals = new NewsTotals(newsRepository, new ConcurrentMapCacheManager(CacheNames.NEWS_TOTALS));
+    }
+
+    @Test
+    void countExact() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().title("title").build();
+        doReturn(3L).when(newsRepository).countByFilter(any());
+
+        assertThat(newsTotals.count(filter, TotalMode.EXACT)).isEqualTo(3L);
+        assertThat(newsTotals.count(filter, TotalMode.EXACT)).isEqualTo(3L);
+        verify(newsRepository, times(2)).countByFilter(filter);
+        verifyNoMoreInteractions(newsRepository);
+    }
+
+    @Test
+    void countCachedUntilNewsChange() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().title("title").build();
+        doReturn(3L, 4L).when(newsRepository).countByFilter(any());
+
+        assertThat(newsTotals.count(filter, TotalMode.CACHED)).isEqualTo(3L);
+        assertThat(newsTotals.count(NewsSearchQueryParam.builder().title("title").build(), TotalMode.CACHED))
+                .isEqualTo(3L);
+        newsTotals.onNewsTagsChanged(new NewsTagsChangedEvent(List.of(1L)));
+        assertThat(newsTotals.count(filter, TotalMode.CACHED)).isEqualTo(4L);
+        verify(newsRepository, times(2)).countByFilter(filter);
+        verifyNoMoreInteractions(newsRepository);
+    }
+
+    @Test
+    void countEstimatedWithoutFilter() {
+        doReturn(1000L).when(newsRepository).estimateCount();
+
+        assertThat(newsTotals.count(TotalMode.ESTIMATED)).isEqualTo(1000L);
+        verify(newsRepository).estimateCount();
+        verifyNoMoreInteractions(newsRepository);
+    }
+
+    @Test
+    void countEstimatedWithFilterFallsBackToCache() {
+        NewsSearchQueryParam filter = NewsSearchQueryParam.builder().tagIds(List.of(1L)).build();
+        doReturn(7L).when(newsRepository).countByFilter(any());
+
+        assertThat(newsTotals.count(filter, TotalMode.ESTIMATED)).isEqualTo(7L);
+        assertThat(newsTotals.count(filter, TotalMode.CACHED)).isEqualTo(7L);
+        verify(newsRepository).countByFilter(filter);
+        verifyNoMoreInteractions(newsRepository);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.mjc.school.service.related;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelatedNewsIndexTest {
+    private final RelatedNewsIndex relatedNewsIndex = new RelatedNewsIndex(2);
+
+    @Test
+    void relatedOrdersByJaccardSimilarity() {
+        relatedNewsIndex.update(1L, new long[]{1L, 2L, 3L});
+        relatedNewsIndex.update(2L, new long[]{1L, 2L, 3L, 4L});
+        relatedNewsIndex.update(3L, new long[]{3L});
+        relatedNewsIndex.update(4L, new long[]{5L});
+
+        assertThat(relatedNewsIndex.related(1L)).containsExactly(2L, 3L);
+        assertThat(relatedNewsIndex.related(3L)).containsExactly(1L, 2L);
+        assertThat(relatedNewsIndex.related(4L)).isEmpty();
+    }
+
+    @Test
+    void relatedKeepsTopN() {
+        relatedNewsIndex.update(1L, new long[]{1L, 2L});
+        relatedNewsIndex.update(2L, new long[]{1L});
+        relatedNewsIndex.update(3L, new long[]{2L});
+        relatedNewsIndex.update(4L, new long[]{1L, 2L});
+
+        assertThat(relatedNewsIndex.related(1L)).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void updateRecomputesNeighbours() {
+        relatedNewsIndex.update(1L, new long[]{1L});
+        relatedNewsIndex.update(2L, new long[]{1L});
+        relatedNewsIndex.update(3L, new long[]{2L});
+
+        relatedNewsIndex.update(2L, new long[]{2L});
+
+        assertThat(relatedNewsIndex.related(1L)).isEmpty();
+        assertThat(relatedNewsIndex.related(2L)).containsExactly(3L);
+        assertThat(relatedNewsIndex.related(3L)).containsExactly(2L);
+    }
+
+    @Test
+    void updateWithoutTagsRemovesNews() {
+        relatedNewsIndex.update(1L, new long[]{1L});
+        relatedNewsIndex.update(2L, new long[]{1L});
+
+        relatedNewsIndex.update(2L, new long[0]);
+
+        assertThat(relatedNewsIndex.related(1L)).isEmpty();
+        assertThat(relatedNewsIndex.related(2L)).isEmpty();
+    }
+
+    @Test
+    void removeTag() {
+        relatedNewsIndex.update(1L, new long[]{1L, 2L});
+        relatedNewsIndex.update(2L, new long[]{1L});
+        relatedNewsIndex.update(3L, new long[]{2L});
+
+        relatedNewsIndex.removeTag(1L);
+
+        assertThat(relatedNewsIndex.related(1L)).containsExactly(3L);
+        assertThat(relatedNewsIndex.related(2L)).isEmpty();
+    }
+
+    @Test
+    void replaceMatchesIncrementalUpdates() {
+        relatedNewsIndex.update(9L, new long[]{1L});
+
+        relatedNewsIndex.replace(Map.of(
+                1L, new long[]{1L, 2L, 3L},
+                2L, new long[]{3L, 2L, 1L, 4L},
+                3L, new long[]{3L},
+                4L, new long[]{5L},
+                5L, new long[0]));
+
+        assertThat(relatedNewsIndex.related(1L)).containsExactly(2L, 3L);
+        assertThat(relatedNewsIndex.related(3L)).containsExactly(1L, 2L);
+        assertThat(relatedNewsIndex.related(4L)).isEmpty();
+        assertThat(relatedNewsIndex.related(9L)).isEmpty();
+
+        relatedNewsIndex.update(5L, new long[]{5L});
+
+        assertThat(relatedNewsIndex.related(4L)).containsExactly(5L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.mjc.school.service.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StaleWhileRevalidateAspectTest {
+    private static final StaleWhileRevalidate NEWS = new StaleWhileRevalidate() {
+        @Override
+        public String value() {
+            return "news";
+        }
+
+        @Override
+        public Class<StaleWhileRevalidate> annotationType() {
+            return StaleWhileRevalidate.class;
+        }
+    };
+    private static final EvictStale EVICT_NEWS = new EvictStale() {
+        @Override
+        public String[] value() {
+            return new String[]{"news"};
+        }
+
+        @Override
+        public Class<EvictStale> annotationType() {
+            return EvictStale.class;
+        }
+    };
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature signature;
+    private StaleWhileRevalidateAspect aspect;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getDefaults().setLatencyBudget(Duration.ofMillis(100));
+        aspect = new StaleWhileRevalidateAspect(properties);
+        lenient().doReturn(signature).when(joinPoint).getSignature();
+        lenient().doReturn(Object.class.getMethod("toString")).when(signature).getMethod();
+        lenient().doReturn(new Object[]{1L}).when(joinPoint).getArgs();
+        StalenessContext.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspect.destroy();
+        StalenessContext.clear();
+    }
+
+    @Test
+    void serveFreshValue() throws Throwable {
+        doReturn("first").doReturn("second").when(joinPoint).proceed();
+
+        aspect.serve(joinPoint, NEWS);
+        Object actualResult = aspect.serve(joinPoint, NEWS);
+
+        assertThat(actualResult).isEqualTo("second");
+        assertThat(StalenessContext.current()).isEmpty();
+        verify(joinPoint, times(2)).proceed();
+    }
+
+    @Test
+    void serveStaleValueWhenRefreshFails() throws Throwable {
+        doReturn("first").doThrow(new DataAccessResourceFailureException("database is down")).when(joinPoint).proceed();
+
+        aspect.serve(joinPoint, NEWS);
+        Object actualResult = aspect.serve(joinPoint, NEWS);
+
+        assertThat(actualResult).isEqualTo("first");
+        assertThat(StalenessContext.current()).isPresent();
+    }
+
+    @Test
+    void serveStaleValueWhenQueryTimesOut() throws Throwable {
+        doReturn("first").doThrow(new QueryTimeoutException("statement timeout")).when(joinPoint).proceed();
+
+        aspect.serve(joinPoint, NEWS);
+        Object actualResult = aspect.serve(joinPoint, NEWS);
+
+        assertThat(actualResult).isEqualTo("first");
+        assertThat(StalenessContext.current()).isPresent();
+    }
+
+    @Test
+    void serveStaleValueWhenReadExceedsLatencyBudget() throws Throwable {
+        CountDownLatch release = new CountDownLatch(1);
+        doReturn("first")
+                .doAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return "second";
+                })
+                .doThrow(new DataAccessResourceFailureException("database is down"))
+                .when(joinPoint).proceed();
+        aspect.serve(joinPoint, NEWS);
+
+        assertThat(aspect.serve(joinPoint, NEWS)).isEqualTo("first");
+        assertThat(aspect.serve(joinPoint, NEWS)).isEqualTo("first");
+        assertThat(StalenessContext.current()).isPresent();
+        verify(joinPoint, times(2)).proceed();
+
+        release.countDown();
+        Object actualResult = "first";
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ("first".equals(actualResult) && System.nanoTime() < deadline) {
+            actualResult = aspect.serve(joinPoint, NEWS);
+        }
+        assertThat(actualResult).isEqualTo("second");
+    }
+
+    @Test
+    void rethrowWhenNoStaleValueIsKnown() throws Throwable {
+        doThrow(new DataAccessResourceFailureException("database is down")).when(joinPoint).proceed();
+
+        assertThrowsExactly(DataAccessResourceFailureException.class, () -> aspect.serve(joinPoint, NEWS));
+    }
+
+    @Test
+    void rethrowFailuresOtherThanDataAccess() throws Throwable {
+        doReturn("first").doThrow(new IllegalStateException("bug")).when(joinPoint).proceed();
+
+        aspect.serve(joinPoint, NEWS);
+
+        assertThrowsExactly(IllegalStateException.class, () -> aspect.serve(joinPoint, NEWS));
+        assertThat(StalenessContext.current()).isEmpty();
+    }
+
+    @Test
+    void bypassStoreInsideTransaction() throws Throwable {
+        doReturn("first").doThrow(new DataAccessResourceFailureException("database is down")).when(joinPoint).proceed();
+        aspect.serve(joinPoint, NEWS);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrowsExactly(DataAccessResourceFailureException.class, () -> aspect.serve(joinPoint, NEWS));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void evictDropsStaleValues() throws Throwable {
+        doReturn("first").doThrow(new DataAccessResourceFailureException("database is down")).when(joinPoint).proceed();
+        aspect.serve(joinPoint, NEWS);
+
+        aspect.evict(EVICT_NEWS);
+
+        assertThrowsExactly(DataAccessResourceFailureException.class, () -> aspect.serve(joinPoint, NEWS));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.mjc.school.service.suggest;
+
+import com.mjc.school.repository.TagRepository;
+import com.mjc.school.repository.model.TagUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagPrefixIndexLoaderTest {
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private final TagPrefixIndex tagPrefixIndex = new TagPrefixIndex();
+    private TagPrefixIndexLoader tagPrefixIndexLoader;
+
+    @BeforeEach
+    void setUp() {
+        tagPrefixIndexLoader = new TagPrefixIndexLoader(tagPrefixIndex, tagRepository, transactionTemplate);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void loadKeepsChangesMadeWhileReadingSnapshot() {
+        doAnswer(invocation -> {
+            tagPrefixIndex.put(2L, "jpa");
+            tagPrefixIndex.remove(3L);
+            return List.of(new TagUsage(1L, "java", 4L), new TagUsage(3L, "jakarta", 1L));
+        }).when(tagRepository).readAllUsages();
+        doReturn(List.of(new TagUsage(2L, "jpa", 0L))).when(tagRepository).readAllUsagesByIds(any());
+
+        tagPrefixIndexLoader.load();
+
+        assertThat(tagPrefixIndex.suggest("j", 10)).containsExactly(
+                new TagUsage(1L, "java", 4L),
+                new TagUsage(2L, "jpa", 0L));
+        verify(tagRepository).readAllUsagesByIds(argThat(ids -> ids.containsAll(List.of(2L, 3L)) && ids.size() == 2));
+    }
+
+    @Test
+    void loadWithoutConcurrentChangesReadsSnapshotOnce() {
+        doReturn(List.of(new TagUsage(1L, "java", 4L))).when(tagRepository).readAllUsages();
+
+        tagPrefixIndexLoader.load();
+
+        assertThat(tagPrefixIndex.suggest("j", 10)).containsExactly(new TagUsage(1L, "java", 4L));
+        verify(tagRepository).readAllUsages();
+        verifyNoMoreInteractions(tagRepository);
+    }
+}
\ No newline at end of file
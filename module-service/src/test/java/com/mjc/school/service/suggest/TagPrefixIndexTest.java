@@ -0,0 +1,115 @@
+package com.mjc.school.service.suggest;
+
+import com.mjc.school.repository.model.TagUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagPrefixIndexTest {
+    private final TagPrefixIndex tagPrefixIndex = new TagPrefixIndex();
+
+    @BeforeEach
+    void setUp() {
+        tagPrefixIndex.load(List.of(
+                new TagUsage(1L, "Java", 3L),
+                new TagUsage(2L, "javascript", 7L),
+                new TagUsage(3L, "jakarta", 0L),
+                new TagUsage(4L, "kotlin", 9L)));
+    }
+
+    @Test
+    void suggestOrdersMatchesByPopularity() {
+        assertThat(tagPrefixIndex.suggest("JA", 10)).containsExactly(
+                new TagUsage(2L, "javascript", 7L),
+                new TagUsage(1L, "Java", 3L),
+                new TagUsage(3L, "jakarta", 0L));
+    }
+
+    @Test
+    void suggestRespectsLimit() {
+        assertThat(tagPrefixIndex.suggest("j", 1)).containsExactly(new TagUsage(2L, "javascript", 7L));
+        assertThat(tagPrefixIndex.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void putRenamesAndKeepsPopularity() {
+        tagPrefixIndex.put(4L, "jvm");
+        tagPrefixIndex.put(5L, "jpa");
+
+        assertThat(tagPrefixIndex.suggest("j", 2)).containsExactly(
+                new TagUsage(4L, "jvm", 9L),
+                new TagUsage(2L, "javascript", 7L));
+        assertThat(tagPrefixIndex.suggest("jp", 10)).containsExactly(new TagUsage(5L, "jpa", 0L));
+        assertThat(tagPrefixIndex.suggest("k", 10)).isEmpty();
+    }
+
+    @Test
+    void removeAndAddPopularity() {
+        tagPrefixIndex.remove(2L);
+        tagPrefixIndex.addPopularity(3L, 5);
+
+        assertThat(tagPrefixIndex.suggest("ja", 10)).containsExactly(
+                new TagUsage(3L, "jakarta", 5L),
+                new TagUsage(1L, "Java", 3L));
+    }
+
+    @Test
+    void suggestShortPrefixFollowsUpdates() {
+        tagPrefixIndex.addPopularity(3L, 10);
+        tagPrefixIndex.put(5L, "Jenkins");
+
+        assertThat(tagPrefixIndex.suggest("", 2)).containsExactly(
+                new TagUsage(3L, "jakarta", 10L),
+                new TagUsage(4L, "kotlin", 9L));
+        assertThat(tagPrefixIndex.suggest("J", 10)).containsExactly(
+                new TagUsage(3L, "jakarta", 10L),
+                new TagUsage(2L, "javascript", 7L),
+                new TagUsage(1L, "Java", 3L),
+                new TagUsage(5L, "Jenkins", 0L));
+    }
+
+    @Test
+    void suggestShortPrefixRefillsTopListAfterDemotion() {
+        List<TagUsage> usages = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            usages.add(new TagUsage(id, "tag" + id, id));
+        }
+        tagPrefixIndex.load(usages);
+
+        tagPrefixIndex.addPopularity(60L, -60);
+        tagPrefixIndex.remove(59L);
+
+        List<TagUsage> actualResult = tagPrefixIndex.suggest("t", 50);
+        assertThat(actualResult).hasSize(50);
+        assertThat(actualResult.get(0)).isEqualTo(new TagUsage(58L, "tag58", 58L));
+        assertThat(actualResult.get(49)).isEqualTo(new TagUsage(9L, "tag9", 9L));
+        assertThat(tagPrefixIndex.suggest("", 50)).isEqualTo(actualResult);
+    }
+
+    @Test
+    void refreshReplaysChangesMadeDuringLoad() {
+        tagPrefixIndex.beginLoad();
+        tagPrefixIndex.put(4L, "jvm");
+        tagPrefixIndex.addPopularity(1L, 2);
+        tagPrefixIndex.load(List.of(
+                new TagUsage(1L, "Java", 3L),
+                new TagUsage(4L, "kotlin", 9L)));
+
+        assertThat(tagPrefixIndex.drainChanges()).containsExactlyInAnyOrder(1L, 4L);
+        tagPrefixIndex.refresh(List.of(1L, 4L), List.of(
+                new TagUsage(1L, "Java", 5L),
+                new TagUsage(4L, "jvm", 9L)));
+
+        assertThat(tagPrefixIndex.suggest("j", 10)).containsExactly(
+                new TagUsage(4L, "jvm", 9L),
+                new TagUsage(1L, "Java", 5L));
+        assertThat(tagPrefixIndex.suggest("k", 10)).isEmpty();
+        assertThat(tagPrefixIndex.drainChanges()).isEmpty();
+        tagPrefixIndex.addPopularity(1L, 1);
+        assertThat(tagPrefixIndex.drainChanges()).isEmpty();
+    }
+}
\ No newline at end of file
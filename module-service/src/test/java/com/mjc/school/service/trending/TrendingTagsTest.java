@@ -0,0 +1,80 @@
+package com.mjc.school.service.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingTagsTest {
+    private final MutableClock clock = new MutableClock();
+    private final TrendingTags trendingTags = new TrendingTags(buildProperties(), clock);
+
+    @Test
+    void topReturnsMostFrequentTags() {
+        trendingTags.record(List.of(1L, 2L), 1);
+        trendingTags.record(List.of(2L), 3);
+        trendingTags.record(List.of(3L), 2);
+
+        assertThat(trendingTags.top()).containsExactly(new TagCount(2L, 4), new TagCount(3L, 2));
+    }
+
+    @Test
+    void topForgetsTagsOutsideWindow() {
+        trendingTags.record(List.of(1L), 5);
+        clock.advance(Duration.ofHours(1));
+        trendingTags.record(List.of(2L), 1);
+
+        assertThat(trendingTags.top()).containsExactly(new TagCount(1L, 5), new TagCount(2L, 1));
+
+        clock.advance(Duration.ofHours(1));
+
+        assertThat(trendingTags.top()).containsExactly(new TagCount(2L, 1));
+    }
+
+    @Test
+    void topKeepsHeavyHittersWithBoundedCandidates() {
+        LongStream.rangeClosed(100, 200).forEach(tagId -> trendingTags.record(List.of(tagId), 1));
+        trendingTags.record(List.of(7L), 50);
+
+        assertThat(trendingTags.top()).first().isEqualTo(new TagCount(7L, 50));
+        assertThat(trendingTags.top()).hasSize(2);
+    }
+
+    private TrendingProperties buildProperties() {
+        TrendingProperties properties = new TrendingProperties();
+        properties.setBucketDuration(Duration.ofHours(1));
+        properties.setBuckets(2);
+        properties.setTopK(2);
+        return properties;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2023-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoSerializationBenchmark {
+    private ObjectWriter stockWriter;
+    private ObjectWriter moduleWriter;
+    private List<NewsDtoResponse> news;
+    private List<CommentDtoResponse> comments;
+
+    @Setup
+    public void setUp() {
+        stockWriter = new ObjectMapper().writer();
+        moduleWriter = new ObjectMapper().registerModule(new DtoSerializationModule()).writer();
+        news = LongStream.rangeClosed(1, 100)
+                .mapToObj(this::buildNewsResponse)
+                .toList();
+        comments = news.stream()
+                .map(item -> CommentDtoResponse.builder().id(item.id()).content("comment" + item.id()).news(item).build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] stockNews() throws JsonProcessingException {
+        return stockWriter.writeValueAsBytes(news);
+    }
+
+    @Benchmark
+    public byte[] moduleNews() throws JsonProcessingException {
+        return moduleWriter.writeValueAsBytes(news);
+    }
+
+    @Benchmark
+    public byte[] stockComments() throws JsonProcessingException {
+        return stockWriter.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public byte[] moduleComments() throws JsonProcessingException {
+        return moduleWriter.writeValueAsBytes(comments);
+    }
+
+    private NewsDtoResponse buildNewsResponse(long id) {
+        return NewsDtoResponse.builder()
+                .id(id)
+                .title("title" + id)
+                .content("content" + id)
+                .author(AuthorDtoResponse.builder().id(id % 10).name("author" + id % 10).build())
+                .tags(List.of(TagDtoResponse.builder().id(1L).name("tag1").build(),
+                        TagDtoResponse.builder().id(2L).name("tag2").build()))
+                .build();
+    }
+}
\ No newline at end of file
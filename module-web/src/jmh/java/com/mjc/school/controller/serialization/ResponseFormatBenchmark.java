@@ -0,0 +1,93 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseFormatBenchmark {
+    private static final TypeReference<List<CommentDtoResponse>> COMMENTS = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private ResponseFormat format;
+    private ObjectMapper objectMapper;
+    private List<CommentDtoResponse> comments;
+    private byte[] serializedComments;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = format.createObjectMapper(Jackson2ObjectMapperBuilder.json()
+                .modules(new DtoSerializationModule()));
+        comments = LongStream.rangeClosed(1, 100)
+                .mapToObj(this::buildCommentResponse)
+                .toList();
+        serializedComments = objectMapper.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public byte[] write(PayloadCounters counters) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(comments);
+        counters.writtenBytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<CommentDtoResponse> read() throws IOException {
+        return objectMapper.readValue(serializedComments, COMMENTS);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PayloadCounters {
+        public long writtenBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            writtenBytes = 0;
+        }
+    }
+
+    private CommentDtoResponse buildCommentResponse(long id) {
+        NewsDtoResponse news = NewsDtoResponse.builder()
+                .id(id)
+                .title("title" + id)
+                .content("content of the news number " + id)
+                .author(AuthorDtoResponse.builder().id(id % 10).name("author" + id % 10).build())
+                .tags(List.of(TagDtoResponse.builder().id(1L).name("tag1").build(),
+                        TagDtoResponse.builder().id(2L).name("tag2").build()))
+                .build();
+        return CommentDtoResponse.builder()
+                .id(id)
+                .content("comment" + id)
+                .news(news)
+                .build();
+    }
+}
\ No newline at end of file
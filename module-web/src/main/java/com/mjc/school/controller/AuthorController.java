@@ -2,6 +2,20 @@ package com.mjc.school.controller;
 
 import com.mjc.school.service.dto.author.AuthorDtoRequest;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.author.AuthorNamesDtoRequest;
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface AuthorController extends BaseController<AuthorDtoRequest, AuthorDtoResponse, Long> {
+
+    List<AuthorDtoResponse> readOrCreateAllByNames(AuthorNamesDtoRequest request);
+
+    List<AuthorDtoResponse> searchByName(String name, Pageable pageable);
+
+    AuthorPurgeJobDtoResponse purge(Long id, Long targetAuthorId);
+
+    AuthorPurgeJobDtoResponse readPurgeJobById(Long id);
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ public interface BaseController<T, R, K> {
 
     List<R> readAll(Pageable pageable);
 
+    List<R> readAllByIds(List<K> ids);
+
     R readById(K id);
 
     R create(T createRequest);
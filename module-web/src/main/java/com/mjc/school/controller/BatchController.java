@@ -0,0 +1,11 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.controller.batch.BatchOperationResponse;
+import com.mjc.school.controller.batch.BatchRequest;
+
+import java.util.List;
+
+public interface BatchController {
+
+    List<BatchOperationResponse> execute(BatchRequest request);
+}
\ No newline at end of file
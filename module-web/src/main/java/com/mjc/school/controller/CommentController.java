@@ -1,7 +1,24 @@
 package com.mjc.school.controller;
 
+import com.github.fge.jsonpatch.JsonPatch;
 import com.mjc.school.service.dto.comment.CommentDtoRequest;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import org.springframework.data.domain.Pageable;
 
-public interface CommentController extends BaseController<CommentDtoRequest, CommentDtoResponse, Long> {
+import java.util.List;
+import java.util.Set;
+
+public interface CommentController {
+
+    List<CommentDtoResponse> readAll(Pageable pageable, Set<String> fields);
+
+    CommentDtoResponse readById(Long id);
+
+    CommentDtoResponse create(CommentDtoRequest createRequest);
+
+    CommentDtoResponse update(Long id, CommentDtoRequest updateRequest);
+
+    CommentDtoResponse patch(Long id, JsonPatch patch);
+
+    void deleteById(Long id);
 }
\ No newline at end of file
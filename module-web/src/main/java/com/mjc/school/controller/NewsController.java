@@ -1,22 +1,61 @@
 package com.mjc.school.controller;
 
+import com.github.fge.jsonpatch.JsonPatch;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentPageDtoResponse;
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
 import com.mjc.school.service.dto.news.NewsDtoRequest;
 import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFilterDtoResponse;
 import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.page.PageDtoResponse;
+import com.mjc.school.service.dto.page.TotalMode;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Set;
 
-public interface NewsController extends BaseController<NewsDtoRequest, NewsDtoResponse, Long> {
+public interface NewsController {
+
+    ResponseEntity<byte[]> readAll(Pageable pageable, Set<String> fields, String accept, String acceptEncoding);
+
+    PageDtoResponse<NewsDtoResponse> readPage(Pageable pageable, TotalMode total);
+
+    List<NewsDtoResponse> readAllByIds(List<Long> ids);
+
+    List<NewsDtoResponse> readMostViewed(Pageable pageable);
+
+    ResponseEntity<byte[]> readById(Long id, String accept, String acceptEncoding);
+
+    NewsDtoResponse create(NewsDtoRequest createRequest);
+
+    NewsDtoResponse update(Long id, NewsDtoRequest updateRequest);
+
+    NewsDtoResponse patch(Long id, JsonPatch patch);
+
+    void deleteById(Long id);
 
     List<NewsDtoResponse> readAllByFilter(NewsQueryParams filter, Pageable pageable);
 
+    PageDtoResponse<NewsDtoResponse> readPageByFilter(NewsQueryParams filter, Pageable pageable, TotalMode total);
+
+    NewsFilterDtoResponse readAllByFilterWithFacets(NewsQueryParams filter, Pageable pageable);
+
     AuthorDtoResponse readAuthorByNewsId(Long id);
 
     List<TagDtoResponse> readAllTagsByNewsId(Long id);
 
-    List<CommentDtoResponse> readAllCommentsByNewsId(Long id);
+    List<NewsDtoResponse> readRelated(Long id);
+
+    List<CommentDtoResponse> readAllCommentsByNewsId(Long id, Set<String> fields, Pageable pageable);
+
+    CommentPageDtoResponse readCommentPageByNewsId(Long id, String cursor, Pageable pageable);
+
+    ResponseEntity<Resource> readBodyByNewsId(Long id, String acceptEncoding);
+
+    NewsBodyDtoResponse updateBody(Long id, String body);
 }
\ No newline at end of file
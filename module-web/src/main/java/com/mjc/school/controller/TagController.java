@@ -2,6 +2,24 @@ package com.mjc.school.controller;
 
 import com.mjc.school.service.dto.tag.TagDtoRequest;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.dto.tag.TagNamesDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoResponse;
+import com.mjc.school.service.dto.tag.TrendingTagDtoResponse;
+
+import java.util.List;
 
 public interface TagController extends BaseController<TagDtoRequest, TagDtoResponse, Long> {
+
+    List<TrendingTagDtoResponse> readTrending();
+
+    List<TagDtoResponse> suggest(String prefix, int limit);
+
+    List<TagDtoResponse> readOrCreateAllByNames(TagNamesDtoRequest request);
+
+    TagNewsDtoResponse attachToNews(Long id, TagNewsDtoRequest request);
+
+    TagNewsDtoResponse detachFromNews(Long id, TagNewsDtoRequest request);
+
+    TagDtoResponse merge(Long id, Long targetId);
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.mjc.school.controller.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.mjc.school.service.AuthorService;
+import com.mjc.school.service.BaseService;
+import com.mjc.school.service.CommentService;
+import com.mjc.school.service.NewsService;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.author.AuthorDtoRequest;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.comment.CommentDtoRequest;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.news.NewsDtoRequest;
+import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoRequest;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.validator.group.CreateAction;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Component
+public class BatchExecutor {
+    private static final Pattern REFERENCE = Pattern.compile("^\\$(\\d+)((?:\\.\\w+)*)$");
+    private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+    private static final Class<?>[] CREATE_GROUPS = {CreateAction.class, Default.class};
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<BatchResource, BatchTarget<?, ?>> targets = new EnumMap<>(BatchResource.class);
+
+    public BatchExecutor(NewsService newsService, AuthorService authorService, TagService tagService,
+                         CommentService commentService, ObjectMapper objectMapper, Validator validator,
+                         TransactionTemplate transactionTemplate) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        targets.put(BatchResource.NEWS, new BatchTarget<>(newsService, NewsDtoRequest.class,
+                NewsDtoResponse.class, CREATE_GROUPS, dto -> NewsDtoRequest.builder()
+                .title(dto.title())
+                .content(dto.content())
+                .authorId(dto.author() == null ? null : dto.author().id())
+                .build()));
+        targets.put(BatchResource.AUTHORS, new BatchTarget<>(authorService, AuthorDtoRequest.class,
+                AuthorDtoResponse.class, DEFAULT_GROUPS, dto -> AuthorDtoRequest.builder()
+                .name(dto.name())
+                .build()));
+        targets.put(BatchResource.TAGS, new BatchTarget<>(tagService, TagDtoRequest.class,
+                TagDtoResponse.class, DEFAULT_GROUPS, dto -> TagDtoRequest.builder()
+                .name(dto.name())
+                .build()));
+        targets.put(BatchResource.COMMENTS, new BatchTarget<>(commentService, CommentDtoRequest.class,
+                CommentDtoResponse.class, CREATE_GROUPS, dto -> CommentDtoRequest.builder()
+                .content(dto.content())
+                .newsId(dto.news() == null ? null : dto.news().id())
+                .build()));
+    }
+
+    public List<BatchOperationResponse> execute(List<BatchOperationRequest> operations) {
+        return transactionTemplate.execute(status -> {
+            List<JsonNode> results = new ArrayList<>(operations.size());
+            List<BatchOperationResponse> responses = new ArrayList<>(operations.size());
+            for (int index = 0; index < operations.size(); index++) {
+                BatchOperationResponse response = execute(index, operations.get(index), results);
+                results.add(response.body());
+                responses.add(response);
+            }
+            return responses;
+        });
+    }
+
+    private BatchOperationResponse execute(int index, BatchOperationRequest operation, List<JsonNode> results) {
+        return execute(index, operation, targets.get(operation.resource()), results);
+    }
+
+    private <T, R> BatchOperationResponse execute(int index, BatchOperationRequest operation,
+                                                  BatchTarget<T, R> target, List<JsonNode> results) {
+        JsonNode body = resolve(index, operation.body(), results);
+        return switch (operation.method()) {
+            case CREATE -> {
+                T request = read(index, body, target.requestType());
+                validate(index, request, target.createGroups());
+                yield response(index, HttpStatus.CREATED, target.service().create(request));
+            }
+            case UPDATE -> {
+                T request = read(index, body, target.requestType());
+                validate(index, request, DEFAULT_GROUPS);
+                R updated = target.service().update(id(index, operation, results), request)
+                        .orElseThrow(() -> notFound(index));
+                yield response(index, HttpStatus.OK, updated);
+            }
+            case PATCH -> {
+                Long id = id(index, operation, results);
+                R current = target.service().readCurrentById(id)
+                        .orElseThrow(() -> notFound(index));
+                R patched = read(index, applyPatch(index, body, current), target.responseType());
+                yield response(index, HttpStatus.OK, target.service().patch(id, target.toRequest().apply(patched)));
+            }
+            case DELETE -> {
+                if (!target.service().deleteById(id(index, operation, results))) {
+                    throw notFound(index);
+                }
+                yield response(index, HttpStatus.NO_CONTENT, null);
+            }
+        };
+    }
+
+    private Long id(int index, BatchOperationRequest operation, List<JsonNode> results) {
+        JsonNode id = resolve(index, operation.id(), results);
+        if (id == null || !id.canConvertToLong()) {
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST, "id should be a number or a reference");
+        }
+        return id.asLong();
+    }
+
+    private JsonNode resolve(int index, JsonNode node, List<JsonNode> results) {
+        if (node == null) {
+            return null;
+        }
+        if (node.isTextual()) {
+            Matcher matcher = REFERENCE.matcher(node.textValue());
+            return matcher.matches() ? dereference(index, matcher, results) : node;
+        }
+        if (node.isObject()) {
+            ObjectNode resolved = objectMapper.createObjectNode();
+            node.fields().forEachRemaining(field -> resolved.set(field.getKey(), resolve(index, field.getValue(), results)));
+            return resolved;
+        }
+        if (node.isArray()) {
+            ArrayNode resolved = objectMapper.createArrayNode();
+            node.forEach(element -> resolved.add(resolve(index, element, results)));
+            return resolved;
+        }
+        return node;
+    }
+
+    private JsonNode dereference(int index, Matcher matcher, List<JsonNode> results) {
+        int reference = Integer.parseInt(matcher.group(1));
+        if (reference < 1 || reference > results.size()) {
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST,
+                    "$" + reference + " does not refer to a previous operation");
+        }
+
+        JsonNode value = results.get(reference - 1);
+        for (String property : matcher.group(2).split("\\.")) {
+            if (!property.isEmpty()) {
+                value = value == null ? null : value.get(property);
+            }
+        }
+        if (value == null || value.isNull()) {
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST, matcher.group() + " is not resolvable");
+        }
+        return value;
+    }
+
+    private JsonNode applyPatch(int index, JsonNode body, Object current) {
+        try {
+            return objectMapper.treeToValue(body, JsonPatch.class)
+                    .apply(objectMapper.valueToTree(current));
+        } catch (JsonProcessingException | JsonPatchException | IllegalArgumentException e) {
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private <V> V read(int index, JsonNode body, Class<V> type) {
+        if (body == null) {
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST, "body should not be empty");
+        }
+        try {
+            return objectMapper.treeToValue(body, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private void validate(int index, Object request, Class<?>[] groups) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request, groups);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = violations.stream()
+                    .collect(Collectors.toMap(violation -> violation.getPropertyPath().toString(),
+                            ConstraintViolation::getMessage, (first, second) -> first));
+            throw new BatchOperationException(index, HttpStatus.BAD_REQUEST, "Validation error", errors);
+        }
+    }
+
+    private BatchOperationResponse response(int index, HttpStatus status, Object body) {
+        return BatchOperationResponse.builder()
+                .index(index)
+                .status(status.value())
+                .body(body == null ? null : objectMapper.valueToTree(body))
+                .build();
+    }
+
+    private BatchOperationException notFound(int index) {
+        return new BatchOperationException(index, HttpStatus.NOT_FOUND,
+                "The resource you were trying to reach is not found");
+    }
+
+    private record BatchTarget<T, R>(BaseService<T, R, Long> service,
+                                     Class<T> requestType,
+                                     Class<R> responseType,
+                                     Class<?>[] createGroups,
+                                     Function<R, T> toRequest) {
+    }
+}
\ No newline at end of file
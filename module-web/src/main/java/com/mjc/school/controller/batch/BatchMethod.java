@@ -0,0 +1,5 @@
+package com.mjc.school.controller.batch;
+
+public enum BatchMethod {
+    CREATE, UPDATE, PATCH, DELETE
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.mjc.school.controller.batch;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+@Getter
+public class BatchOperationException extends RuntimeException {
+    private final int index;
+    private final HttpStatus status;
+    private final transient Map<String, String> errors;
+
+    public BatchOperationException(int index, HttpStatus status, String message) {
+        this(index, status, message, Map.of());
+    }
+
+    public BatchOperationException(int index, HttpStatus status, String message, Map<String, String> errors) {
+        super("Operation " + index + " failed: " + message);
+        this.index = index;
+        this.status = status;
+        this.errors = errors;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.mjc.school.controller.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+
+import javax.validation.constraints.NotNull;
+
+@Builder
+public record BatchOperationRequest(
+        @NotNull(message = "Method should not be empty")
+        BatchMethod method,
+        @NotNull(message = "Resource should not be empty")
+        BatchResource resource,
+        JsonNode id,
+        JsonNode body) {
+}
\ No newline at end of file
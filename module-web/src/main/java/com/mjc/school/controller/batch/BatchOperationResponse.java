@@ -0,0 +1,10 @@
+package com.mjc.school.controller.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+
+@Builder
+public record BatchOperationResponse(int index,
+                                     int status,
+                                     JsonNode body) {
+}
\ No newline at end of file
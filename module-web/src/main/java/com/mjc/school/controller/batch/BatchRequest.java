@@ -0,0 +1,15 @@
+package com.mjc.school.controller.batch;
+
+import lombok.Builder;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Builder
+public record BatchRequest(
+        @NotEmpty(message = "Operations should not be empty")
+        @Size(max = 100, message = "Batch should contain at most 100 operations")
+        List<@Valid BatchOperationRequest> operations) {
+}
\ No newline at end of file
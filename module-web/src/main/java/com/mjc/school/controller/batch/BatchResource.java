@@ -0,0 +1,14 @@
+package com.mjc.school.controller.batch;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum BatchResource {
+    @JsonProperty("news")
+    NEWS,
+    @JsonProperty("authors")
+    AUTHORS,
+    @JsonProperty("tags")
+    TAGS,
+    @JsonProperty("comments")
+    COMMENTS
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mjc.school.controller.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@RequiredArgsConstructor
+public class ResponseCacheEvictionInterceptor implements HandlerInterceptor {
+    private final ObjectProvider<SerializedResponseCache> serializedResponseCache;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD && response.getStatus() < 400) {
+            serializedResponseCache.ifAvailable(SerializedResponseCache::clear);
+        }
+    }
+}
\ No newline at end of file
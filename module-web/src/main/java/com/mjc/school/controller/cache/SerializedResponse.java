@@ -0,0 +1,20 @@
+package com.mjc.school.controller.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public record SerializedResponse(MediaType contentType, byte[] body, byte[] gzippedBody) {
+
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzippedBody != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzippedBody);
+        }
+
+        return builder.body(body);
+    }
+}
\ No newline at end of file
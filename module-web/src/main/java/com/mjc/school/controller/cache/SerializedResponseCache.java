@@ -0,0 +1,91 @@
+package com.mjc.school.controller.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mjc.school.controller.serialization.ResponseFormat;
+import com.mjc.school.controller.serialization.SparseFieldset;
+import com.mjc.school.service.resilience.StalenessContext;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class SerializedResponseCache {
+    private final Map<ResponseFormat, ObjectMapper> objectMappers = new EnumMap<>(ResponseFormat.class);
+    private final Cache<List<Object>, SerializedResponse> cache;
+    private final int cachedPages;
+    private final boolean gzip;
+
+    public SerializedResponseCache(Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                   @Value("${app.response-cache.ttl:1m}") Duration ttl,
+                                   @Value("${app.response-cache.maximum-size:10000}") long maximumSize,
+                                   @Value("${app.response-cache.cached-pages:3}") int cachedPages,
+                                   @Value("${app.response-cache.gzip:true}") boolean gzip) {
+        for (ResponseFormat format : ResponseFormat.values()) {
+            objectMappers.put(format, format.createObjectMapper(objectMapperBuilder));
+        }
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+        this.cachedPages = cachedPages;
+        this.gzip = gzip;
+    }
+
+    public ResponseEntity<byte[]> get(List<Object> key, SparseFieldset fieldset, String accept, String acceptEncoding,
+                                      Supplier<?> loader) {
+        ResponseFormat format = ResponseFormat.fromAccept(accept);
+        List<Object> formatKey = Arrays.asList(format, fieldset, key);
+        SerializedResponse response = cache.getIfPresent(formatKey);
+        if (response == null) {
+            response = serialize(format, fieldset, loader.get());
+            if (StalenessContext.current().isEmpty()) {
+                cache.put(formatKey, response);
+            }
+        }
+
+        return response.toResponseEntity(acceptEncoding);
+    }
+
+    public ResponseEntity<byte[]> getPage(String resource, Pageable pageable, Supplier<?> version,
+                                          SparseFieldset fieldset, String accept, String acceptEncoding,
+                                          Supplier<?> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= cachedPages) {
+            return serialize(ResponseFormat.fromAccept(accept), fieldset, loader.get())
+                    .toResponseEntity(acceptEncoding);
+        }
+
+        return get(List.of(resource, pageable, version.get()), fieldset, accept, acceptEncoding, loader);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @SneakyThrows
+    private SerializedResponse serialize(ResponseFormat format, SparseFieldset fieldset, Object body) {
+        byte[] bytes = objectMappers.get(format).writer(fieldset).writeValueAsBytes(body);
+        if (!gzip) {
+            return new SerializedResponse(format.getMediaType(), bytes, null);
+        }
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(gzipped)) {
+            outputStream.write(bytes);
+        }
+        return new SerializedResponse(format.getMediaType(), bytes, gzipped.toByteArray());
+    }
+}
\ No newline at end of file
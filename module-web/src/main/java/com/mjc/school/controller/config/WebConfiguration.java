@@ -0,0 +1,40 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.cache.ResponseCacheEvictionInterceptor;
+import com.mjc.school.controller.cache.SerializedResponseCache;
+import com.mjc.school.controller.serialization.ResponseFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+    private final ObjectProvider<SerializedResponseCache> serializedResponseCache;
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StalenessContextInterceptor());
+        registry.addInterceptor(new ResponseCacheEvictionInterceptor(serializedResponseCache))
+                .addPathPatterns("/api/v1/authors/**", "/api/v1/tags/**", "/api/v1/comments/**", "/api/v1/batch");
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                ResponseFormat.CBOR.createObjectMapper(objectMapperBuilder)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                ResponseFormat.SMILE.createObjectMapper(objectMapperBuilder)));
+    }
+}
\ No newline at end of file
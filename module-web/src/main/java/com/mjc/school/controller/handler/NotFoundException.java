@@ -0,0 +1,9 @@
+package com.mjc.school.controller.handler;
+
+public final class NotFoundException extends RuntimeException {
+    public static final NotFoundException INSTANCE = new NotFoundException();
+
+    private NotFoundException() {
+        super("The resource you were trying to reach is not found", null, false, false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.mjc.school.controller.handler;
+
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(int length, int maxLength) {
+        super("The payload of " + length + " characters exceeds the limit of " + maxLength);
+    }
+}
\ No newline at end of file
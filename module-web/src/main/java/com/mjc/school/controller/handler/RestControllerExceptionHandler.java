@@ -1,11 +1,15 @@
 package com.mjc.school.controller.handler;
 
+import com.mjc.school.controller.batch.BatchOperationException;
+import com.mjc.school.repository.model.UnknownFieldException;
+import com.mjc.school.service.cursor.InvalidCursorException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
@@ -40,4 +44,65 @@ public class RestControllerExceptionHandler extends ResponseEntityExceptionHandl
         return handleExceptionInternal(
                 ex, apiError, headers, apiError.status(), request);
     }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ApiError> handleNotFound(NotFoundException ex, WebRequest request) {
+        ApiError apiError = ApiError.builder()
+                .status(HttpStatus.NOT_FOUND)
+                .code(HttpStatus.NOT_FOUND.value())
+                .message(ex.getMessage())
+                .instance(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.status(apiError.status()).body(apiError);
+    }
+
+    @ExceptionHandler(BatchOperationException.class)
+    public ResponseEntity<ApiError> handleBatchOperation(BatchOperationException ex, WebRequest request) {
+        ApiError apiError = ApiError.builder()
+                .status(ex.getStatus())
+                .code(ex.getStatus().value())
+                .message(ex.getMessage())
+                .errors(ex.getErrors())
+                .instance(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.status(apiError.status()).body(apiError);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiError> handleInvalidCursor(InvalidCursorException ex, WebRequest request) {
+        ApiError apiError = ApiError.builder()
+                .status(HttpStatus.BAD_REQUEST)
+                .code(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .instance(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.status(apiError.status()).body(apiError);
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ApiError> handlePayloadTooLarge(PayloadTooLargeException ex, WebRequest request) {
+        ApiError apiError = ApiError.builder()
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .code(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .message(ex.getMessage())
+                .instance(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.status(apiError.status()).body(apiError);
+    }
+
+    @ExceptionHandler(UnknownFieldException.class)
+    public ResponseEntity<ApiError> handleUnknownField(UnknownFieldException ex, WebRequest request) {
+        ApiError apiError = ApiError.builder()
+                .status(HttpStatus.BAD_REQUEST)
+                .code(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .instance(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.status(apiError.status()).body(apiError);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.mjc.school.controller.handler;
+
+import com.mjc.school.controller.serialization.SparseFieldset;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+
+@RestControllerAdvice(basePackages = "com.mjc.school.controller")
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    private static final String FIELDS = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType)
+                && Arrays.stream(returnType.getMethodParameters())
+                .anyMatch(this::isFieldsParameter);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer,
+                                           MediaType contentType,
+                                           MethodParameter returnType,
+                                           ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            String[] fields = servletRequest.getServletRequest().getParameterValues(FIELDS);
+            if (fields != null) {
+                bodyContainer.setFilters(SparseFieldset.of(Arrays.asList(fields)));
+            }
+        }
+    }
+
+    private boolean isFieldsParameter(MethodParameter parameter) {
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        if (requestParam == null) {
+            return false;
+        }
+
+        return FIELDS.equals(requestParam.name())
+                || FIELDS.equals(requestParam.value())
+                || requestParam.name().isEmpty() && FIELDS.equals(parameter.getParameterName());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.mjc.school.controller.handler;
+
+import com.mjc.school.service.resilience.StalenessContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@RestControllerAdvice(basePackages = "com.mjc.school.controller")
+public class StalenessHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        StalenessContext.current().ifPresent(age -> {
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(age.toSeconds()));
+            response.getHeaders().set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+        });
+        StalenessContext.clear();
+        return body;
+    }
+}
\ No newline at end of file
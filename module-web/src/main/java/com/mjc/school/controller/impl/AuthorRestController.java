@@ -4,9 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.mjc.school.controller.AuthorController;
+import com.mjc.school.controller.handler.NotFoundException;
+import com.mjc.school.service.AuthorPurgeService;
 import com.mjc.school.service.AuthorService;
 import com.mjc.school.service.dto.author.AuthorDtoRequest;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.author.AuthorNamesDtoRequest;
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -17,7 +21,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -27,6 +30,7 @@ import java.util.List;
 @Tag(name = "Authors", description = "Operations for creating, updating, retrieving and deleting author in the application")
 public class AuthorRestController implements AuthorController {
     private final AuthorService authorService;
+    private final AuthorPurgeService authorPurgeService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -42,6 +46,34 @@ public class AuthorRestController implements AuthorController {
         return authorService.readAll(pageable);
     }
 
+    @Override
+    @GetMapping(params = "ids")
+    @Operation(summary = "Retrieve authors with the supplied ids")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the authors with the supplied ids in the requested order"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<AuthorDtoResponse> readAllByIds(@RequestParam List<Long> ids) {
+        return authorService.readAllByIds(ids);
+    }
+
+    @Override
+    @GetMapping("/search")
+    @Operation(summary = "Search authors whose name contains the supplied fragment")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the authors matching the supplied name"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<AuthorDtoResponse> searchByName(@RequestParam String name, Pageable pageable) {
+        return authorService.searchByName(name, pageable);
+    }
+
     @GetMapping("/{id}")
     @Override
     @Operation(summary = "Retrieve specific author with the supplied id")
@@ -54,7 +86,7 @@ public class AuthorRestController implements AuthorController {
     )
     public AuthorDtoResponse readById(@PathVariable Long id) {
         return authorService.readById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -72,6 +104,20 @@ public class AuthorRestController implements AuthorController {
         return authorService.create(createRequest);
     }
 
+    @Override
+    @PostMapping("/upsert")
+    @Operation(summary = "Find or create authors with the supplied names")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the authors with the supplied names in the requested order"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<AuthorDtoResponse> readOrCreateAllByNames(@RequestBody @Validated AuthorNamesDtoRequest request) {
+        return authorService.readOrCreateAllByNames(request);
+    }
+
     @Override
     @PatchMapping(path = "/{id}", consumes = "application/json-patch+json")
     @Operation(summary = "Update author information")
@@ -88,7 +134,7 @@ public class AuthorRestController implements AuthorController {
                     AuthorDtoRequest authorDtoRequest = applyPatch(patch, dto);
                     return authorService.patch(id, authorDtoRequest);
                 })
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -104,7 +150,7 @@ public class AuthorRestController implements AuthorController {
     )
     public AuthorDtoResponse update(@PathVariable Long id, @RequestBody @Validated AuthorDtoRequest updateRequest) {
         return authorService.update(id, updateRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -122,6 +168,37 @@ public class AuthorRestController implements AuthorController {
         authorService.deleteById(id);
     }
 
+    @Override
+    @PostMapping("/{id}/purge")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Start purging the author with the supplied id, deleting or reassigning the author news")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Successfully started the author purge"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public AuthorPurgeJobDtoResponse purge(@PathVariable Long id, @RequestParam(required = false) Long targetAuthorId) {
+        return authorPurgeService.purge(id, targetAuthorId)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+    }
+
+    @Override
+    @GetMapping("/purges/{id}")
+    @Operation(summary = "Retrieve progress of the author purge with the supplied id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the author purge with the supplied id"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public AuthorPurgeJobDtoResponse readPurgeJobById(@PathVariable Long id) {
+        return authorPurgeService.readById(id)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+    }
+
     @SneakyThrows
     private AuthorDtoRequest applyPatch(JsonPatch patch, AuthorDtoResponse dto) {
         JsonNode patched = patch.apply(objectMapper.convertValue(dto, JsonNode.class));
@@ -0,0 +1,41 @@
+package com.mjc.school.controller.impl;
+
+import com.mjc.school.controller.BatchController;
+import com.mjc.school.controller.batch.BatchExecutor;
+import com.mjc.school.controller.batch.BatchOperationResponse;
+import com.mjc.school.controller.batch.BatchRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/batch")
+@Tag(name = "Batch", description = "Operations for running several changes to news, authors, tags and comments in one transaction")
+public class BatchRestController implements BatchController {
+    private final BatchExecutor batchExecutor;
+
+    @Override
+    @PostMapping
+    @Operation(summary = "Run an ordered list of operations in one transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully ran all operations"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<BatchOperationResponse> execute(@RequestBody @Validated BatchRequest request) {
+        return batchExecutor.execute(request.operations());
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.mjc.school.controller.CommentController;
+import com.mjc.school.controller.handler.NotFoundException;
 import com.mjc.school.service.CommentService;
 import com.mjc.school.service.dto.comment.CommentDtoRequest;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
@@ -18,10 +19,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.groups.Default;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -41,8 +42,12 @@ public class CommentRestController implements CommentController {
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
     )
-    public List<CommentDtoResponse> readAll(Pageable pageable) {
-        return commentService.readAll(pageable);
+    public List<CommentDtoResponse> readAll(Pageable pageable, @RequestParam(required = false) Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return commentService.readAll(pageable);
+        }
+
+        return commentService.readAll(pageable, fields);
     }
 
     @GetMapping("/{id}")
@@ -57,7 +62,7 @@ public class CommentRestController implements CommentController {
     )
     public CommentDtoResponse readById(@PathVariable Long id) {
         return commentService.readById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @PostMapping
@@ -89,7 +94,7 @@ public class CommentRestController implements CommentController {
     public CommentDtoResponse update(@PathVariable Long id,
                                      @RequestBody @Validated CommentDtoRequest updateRequest) {
         return commentService.update(id, updateRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @PatchMapping(path = "/{id}", consumes = "application/json-patch+json")
@@ -109,7 +114,7 @@ public class CommentRestController implements CommentController {
                     CommentDtoRequest commentDtoRequest = applyPatch(patch, comment);
                     return commentService.patch(id, commentDtoRequest);
                 })
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
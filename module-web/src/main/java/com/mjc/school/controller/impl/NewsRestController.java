@@ -4,69 +4,155 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.mjc.school.controller.NewsController;
+import com.mjc.school.controller.cache.SerializedResponseCache;
+import com.mjc.school.controller.handler.NotFoundException;
+import com.mjc.school.controller.handler.PayloadTooLargeException;
+import com.mjc.school.controller.serialization.SparseFieldset;
 import com.mjc.school.service.AuthorService;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.NewsBodyService;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.NewsViewService;
 import com.mjc.school.service.TagService;
+import com.mjc.school.service.compression.DeflateCodec;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentPageDtoResponse;
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
 import com.mjc.school.service.dto.news.NewsDtoRequest;
 import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFilterDtoResponse;
 import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.news.NewsVersionDtoResponse;
+import com.mjc.school.service.dto.page.PageDtoResponse;
+import com.mjc.school.service.dto.page.TotalMode;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
 import com.mjc.school.service.validator.group.CreateAction;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.groups.Default;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/news")
 @Tag(name = "News", description = "Operations for creating, updating, retrieving and deleting news in the application")
 public class NewsRestController implements NewsController {
+    private static final MediaType BODY_CONTENT_TYPE = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
     private final NewsService newsService;
+    private final NewsBodyService newsBodyService;
+    private final NewsViewService newsViewService;
     private final AuthorService authorService;
     private final TagService tagService;
     private final CommentService commentService;
     private final ObjectMapper objectMapper;
+    private final SerializedResponseCache serializedResponseCache;
+    @Value("${app.news-body.max-length:1048576}")
+    private final int newsBodyMaxLength;
 
     @Override
-    @GetMapping
+    @GetMapping(params = {"!total", "!ids"})
     @Operation(summary = "View all news")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved all news"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved all news",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = NewsDtoResponse.class)))),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
     )
-    public List<NewsDtoResponse> readAll(Pageable pageable) {
-        return newsService.readAll(pageable);
+    public ResponseEntity<byte[]> readAll(Pageable pageable,
+                                          @RequestParam(required = false) Set<String> fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SparseFieldset fieldset = SparseFieldset.of(fields);
+        return serializedResponseCache.getPage("news", pageable, newsService::readVersion, fieldset, accept,
+                acceptEncoding, () -> fieldset == null ?
+                        newsService.readAll(pageable) : newsService.readAll(pageable, fieldset.getFields()));
+    }
+
+    @Override
+    @GetMapping(params = {"total", "!ids"})
+    @Operation(summary = "View a page of news with the total count computed exactly, from cache or from planner statistics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of news with its total count"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public PageDtoResponse<NewsDtoResponse> readPage(Pageable pageable, @RequestParam TotalMode total) {
+        return newsService.readPage(pageable, total);
+    }
+
+    @Override
+    @GetMapping(params = "ids")
+    @Operation(summary = "Retrieve news with the supplied ids")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the news with the supplied ids in the requested order"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<NewsDtoResponse> readAllByIds(@RequestParam List<Long> ids) {
+        return newsService.readAllByIds(ids);
+    }
+
+    @Override
+    @GetMapping("/most-viewed")
+    @Operation(summary = "View the most viewed news")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the most viewed news",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = NewsDtoResponse.class)))),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<NewsDtoResponse> readMostViewed(@PageableDefault(size = 10) Pageable pageable) {
+        return newsService.readMostViewed(pageable);
     }
 
     @GetMapping("/{id}")
     @Override
     @Operation(summary = "Retrieve specific news with the supplied id")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved the news with the supplied id"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the news with the supplied id",
+                    content = @Content(schema = @Schema(implementation = NewsDtoResponse.class))),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
     )
-    public NewsDtoResponse readById(@PathVariable Long id) {
-        return newsService.readById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    public ResponseEntity<byte[]> readById(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        NewsVersionDtoResponse version = newsService.readVersionById(id)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+        newsViewService.registerView(id);
+        return serializedResponseCache.get(List.of("news", id, version), null, accept, acceptEncoding,
+                () -> newsService.readById(id).orElseThrow(() -> NotFoundException.INSTANCE));
     }
 
     @Override
@@ -98,7 +184,7 @@ public class NewsRestController implements NewsController {
     public NewsDtoResponse update(@PathVariable Long id,
                                   @RequestBody @Validated NewsDtoRequest dtoRequest) {
         return newsService.update(id, dtoRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -117,7 +203,7 @@ public class NewsRestController implements NewsController {
                     NewsDtoRequest newsDtoRequest = applyPatch(patch, news);
                     return newsService.patch(id, newsDtoRequest);
                 })
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -136,7 +222,7 @@ public class NewsRestController implements NewsController {
     }
 
     @Override
-    @GetMapping("/filter")
+    @GetMapping(value = "/filter", params = {"facets!=true", "!total"})
     @Operation(summary = "Retrieve news with the supplied filter")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the news with the supplied filter"),
@@ -148,6 +234,34 @@ public class NewsRestController implements NewsController {
         return newsService.readAllByFilter(filter, pageable);
     }
 
+    @Override
+    @GetMapping(value = "/filter", params = {"total", "facets!=true"})
+    @Operation(summary = "Retrieve a page of news with the supplied filter together with the total count")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of news with the supplied filter and its total count"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")
+    })
+    public PageDtoResponse<NewsDtoResponse> readPageByFilter(NewsQueryParams filter, Pageable pageable,
+                                                             @RequestParam TotalMode total) {
+        return newsService.readPageByFilter(filter, pageable, total);
+    }
+
+    @Override
+    @GetMapping(value = "/filter", params = "facets=true")
+    @Operation(summary = "Retrieve news with the supplied filter together with tag and author counts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the news and facet counts with the supplied filter"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")
+    })
+    public NewsFilterDtoResponse readAllByFilterWithFacets(NewsQueryParams filter, Pageable pageable) {
+        return newsService.readAllByFilterWithFacets(filter, pageable);
+    }
+
     @Override
     @GetMapping("/{id}/author")
     @Operation(summary = "Retrieve author with the supplied news id")
@@ -159,7 +273,7 @@ public class NewsRestController implements NewsController {
     })
     public AuthorDtoResponse readAuthorByNewsId(@PathVariable Long id) {
         return authorService.readByNewsId(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -176,16 +290,94 @@ public class NewsRestController implements NewsController {
     }
 
     @Override
-    @GetMapping("/{id}/comments")
-    @Operation(summary = "Retrieve comments with the supplied news id")
+    @GetMapping("/{id}/related")
+    @Operation(summary = "Retrieve news related to the news with the supplied id by shared tags")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the news related to the news with the supplied id",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = NewsDtoResponse.class)))),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")
+    })
+    public List<NewsDtoResponse> readRelated(@PathVariable Long id) {
+        return newsService.readRelated(id);
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/comments", params = "fields")
+    @Operation(summary = "Retrieve a page of comments with the supplied news id and only the supplied fields")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the comments with the supplied news id"),
+            @ApiResponse(responseCode = "400", description = "The supplied fields are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")
+    })
+    public List<CommentDtoResponse> readAllCommentsByNewsId(@PathVariable Long id,
+                                                            @RequestParam Set<String> fields,
+                                                            @PageableDefault(size = 20) Pageable pageable) {
+        return commentService.readAllByNewsId(id, pageable, fields);
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/comments", params = "!fields")
+    @Operation(summary = "Retrieve a page of comments with the supplied news id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a page of comments with the supplied news id"),
+            @ApiResponse(responseCode = "400", description = "The supplied cursor is invalid"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")
     })
-    public List<CommentDtoResponse> readAllCommentsByNewsId(@PathVariable Long id) {
-        return commentService.readAllByNewsId(id);
+    public CommentPageDtoResponse readCommentPageByNewsId(@PathVariable Long id,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @PageableDefault(size = 20) Pageable pageable) {
+        return commentService.readPageByNewsId(id, cursor, pageable);
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/body", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Retrieve the full body of the news with the supplied id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the body of the news with the supplied id"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")
+    })
+    public ResponseEntity<Resource> readBodyByNewsId(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        byte[] compressed = newsBodyService.readCompressedByNewsId(id)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(BODY_CONTENT_TYPE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("deflate")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "deflate")
+                    .body(new ByteArrayResource(compressed));
+        }
+
+        return builder.body(new InputStreamResource(DeflateCodec.decompress(compressed)));
+    }
+
+    @Override
+    @PutMapping(value = "/{id}/body", consumes = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Replace the full body of the news with the supplied id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully updated the body of the news"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "413", description = "The body exceeds the maximum length"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")
+    })
+    public NewsBodyDtoResponse updateBody(@PathVariable Long id, @RequestBody String body) {
+        if (body.length() > newsBodyMaxLength) {
+            throw new PayloadTooLargeException(body.length(), newsBodyMaxLength);
+        }
+        return newsBodyService.update(id, body)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @SneakyThrows
@@ -4,9 +4,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import com.mjc.school.controller.TagController;
+import com.mjc.school.controller.handler.NotFoundException;
 import com.mjc.school.service.TagService;
 import com.mjc.school.service.dto.tag.TagDtoRequest;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.dto.tag.TagNamesDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoResponse;
+import com.mjc.school.service.dto.tag.TrendingTagDtoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -17,7 +22,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -42,6 +46,48 @@ public class TagRestController implements TagController {
         return tagService.readAll(pageable);
     }
 
+    @Override
+    @GetMapping(params = "ids")
+    @Operation(summary = "Retrieve tags with the supplied ids")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the tags with the supplied ids in the requested order"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<TagDtoResponse> readAllByIds(@RequestParam List<Long> ids) {
+        return tagService.readAllByIds(ids);
+    }
+
+    @Override
+    @GetMapping("/trending")
+    @Operation(summary = "View the tags trending over the recent time window")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the trending tags"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<TrendingTagDtoResponse> readTrending() {
+        return tagService.readTrending();
+    }
+
+    @Override
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest tags whose names start with the supplied prefix")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the tag suggestions ordered by popularity"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<TagDtoResponse> suggest(@RequestParam String prefix,
+                                        @RequestParam(defaultValue = "10") int limit) {
+        return tagService.suggest(prefix, limit);
+    }
+
     @Override
     @GetMapping("/{id}")
     @Operation(summary = "Retrieve specific tag with the supplied id")
@@ -54,7 +100,7 @@ public class TagRestController implements TagController {
     )
     public TagDtoResponse readById(@PathVariable Long id) {
         return tagService.readById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -86,7 +132,21 @@ public class TagRestController implements TagController {
     public TagDtoResponse update(@PathVariable Long id,
                                  @RequestBody @Validated TagDtoRequest updateRequest) {
         return tagService.update(id, updateRequest)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+    }
+
+    @Override
+    @PostMapping("/upsert")
+    @Operation(summary = "Find or create tags with the supplied names")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resolved the tags with the supplied names in the requested order"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public List<TagDtoResponse> readOrCreateAllByNames(@RequestBody @Validated TagNamesDtoRequest request) {
+        return tagService.readOrCreateAllByNames(request);
     }
 
     @Override
@@ -105,7 +165,7 @@ public class TagRestController implements TagController {
                     TagDtoRequest tagDtoRequest = applyPatch(patch, tagDtoResponse);
                     return tagService.patch(id, tagDtoRequest);
                 })
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                .orElseThrow(() -> NotFoundException.INSTANCE);
     }
 
     @Override
@@ -123,6 +183,53 @@ public class TagRestController implements TagController {
         tagService.deleteById(id);
     }
 
+    @Override
+    @PostMapping("/{id}/news")
+    @Operation(summary = "Assign tag to news with the supplied ids or matching the supplied filter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully assigned tag to news"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public TagNewsDtoResponse attachToNews(@PathVariable Long id, @RequestBody @Validated TagNewsDtoRequest request) {
+        return tagService.attachToNews(id, request)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+    }
+
+    @Override
+    @DeleteMapping("/{id}/news")
+    @Operation(summary = "Remove tag from news with the supplied ids or matching the supplied filter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully removed tag from news"),
+            @ApiResponse(responseCode = "400", description = "The request parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public TagNewsDtoResponse detachFromNews(@PathVariable Long id, @RequestBody @Validated TagNewsDtoRequest request) {
+        return tagService.detachFromNews(id, request)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+    }
+
+    @Override
+    @PostMapping("/{id}/merge/{targetId}")
+    @Operation(summary = "Merge tag with the supplied id into the target tag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully merged tag into the target tag"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")}
+    )
+    public TagDtoResponse merge(@PathVariable Long id, @PathVariable Long targetId) {
+        return tagService.merge(id, targetId)
+                .orElseThrow(() -> NotFoundException.INSTANCE);
+    }
+
     @SneakyThrows
     private TagDtoRequest applyPatch(JsonPatch patch, TagDtoResponse dto) {
         JsonNode patched = patch.apply(objectMapper.convertValue(dto, JsonNode.class));
@@ -0,0 +1,26 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+
+import java.io.IOException;
+
+public class AuthorDtoResponseSerializer extends RecordSerializer<AuthorDtoResponse> {
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+
+    public AuthorDtoResponseSerializer() {
+        super(AuthorDtoResponse.class);
+    }
+
+    @Override
+    public void serialize(AuthorDtoResponse value, JsonGenerator generator, SerializerProvider provider, String parent)
+            throws IOException {
+        generator.writeStartObject(value);
+        writeNumberField(generator, provider, parent, ID, value.id());
+        writeStringField(generator, provider, parent, NAME, value.name());
+        generator.writeEndObject();
+    }
+}
\ No newline at end of file
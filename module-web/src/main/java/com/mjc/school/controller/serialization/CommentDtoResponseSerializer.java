@@ -0,0 +1,30 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+
+import java.io.IOException;
+
+public class CommentDtoResponseSerializer extends RecordSerializer<CommentDtoResponse> {
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString NEWS = new SerializedString("news");
+    private final NewsDtoResponseSerializer newsSerializer;
+
+    public CommentDtoResponseSerializer(NewsDtoResponseSerializer newsSerializer) {
+        super(CommentDtoResponse.class);
+        this.newsSerializer = newsSerializer;
+    }
+
+    @Override
+    public void serialize(CommentDtoResponse value, JsonGenerator generator, SerializerProvider provider, String parent)
+            throws IOException {
+        generator.writeStartObject(value);
+        writeNumberField(generator, provider, parent, ID, value.id());
+        writeStringField(generator, provider, parent, CONTENT, value.content());
+        writeObjectField(generator, provider, parent, NEWS, value.news(), newsSerializer);
+        generator.writeEndObject();
+    }
+}
\ No newline at end of file
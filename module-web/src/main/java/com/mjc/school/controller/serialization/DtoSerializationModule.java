@@ -0,0 +1,23 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DtoSerializationModule extends SimpleModule {
+
+    public DtoSerializationModule() {
+        super("DtoSerializationModule");
+        AuthorDtoResponseSerializer authorSerializer = new AuthorDtoResponseSerializer();
+        TagDtoResponseSerializer tagSerializer = new TagDtoResponseSerializer();
+        NewsDtoResponseSerializer newsSerializer = new NewsDtoResponseSerializer(authorSerializer, tagSerializer);
+        addSerializer(AuthorDtoResponse.class, authorSerializer);
+        addSerializer(TagDtoResponse.class, tagSerializer);
+        addSerializer(NewsDtoResponse.class, newsSerializer);
+        addSerializer(CommentDtoResponse.class, new CommentDtoResponseSerializer(newsSerializer));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+
+import java.io.IOException;
+
+public class NewsDtoResponseSerializer extends RecordSerializer<NewsDtoResponse> {
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString SNIPPET = new SerializedString("snippet");
+    private static final SerializedString AUTHOR = new SerializedString("author");
+    private static final SerializedString TAGS = new SerializedString("tags");
+    private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+    private static final SerializedString VIEW_COUNT = new SerializedString("viewCount");
+    private final AuthorDtoResponseSerializer authorSerializer;
+    private final TagDtoResponseSerializer tagSerializer;
+
+    public NewsDtoResponseSerializer(AuthorDtoResponseSerializer authorSerializer,
+                                     TagDtoResponseSerializer tagSerializer) {
+        super(NewsDtoResponse.class);
+        this.authorSerializer = authorSerializer;
+        this.tagSerializer = tagSerializer;
+    }
+
+    @Override
+    public void serialize(NewsDtoResponse value, JsonGenerator generator, SerializerProvider provider, String parent)
+            throws IOException {
+        generator.writeStartObject(value);
+        writeNumberField(generator, provider, parent, ID, value.id());
+        writeStringField(generator, provider, parent, TITLE, value.title());
+        writeStringField(generator, provider, parent, CONTENT, value.content());
+        writeStringField(generator, provider, parent, SNIPPET, value.snippet());
+        writeObjectField(generator, provider, parent, AUTHOR, value.author(), authorSerializer);
+        if (includes(provider, parent, TAGS)) {
+            generator.writeFieldName(TAGS);
+            writeTags(value, generator, provider, childPath(provider, parent, TAGS));
+        }
+        writeNumberField(generator, provider, parent, COMMENT_COUNT, value.commentCount());
+        writeNumberField(generator, provider, parent, VIEW_COUNT, value.viewCount());
+        generator.writeEndObject();
+    }
+
+    private void writeTags(NewsDtoResponse value, JsonGenerator generator, SerializerProvider provider, String path)
+            throws IOException {
+        if (value.tags() == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartArray(value.tags(), value.tags().size());
+        for (TagDtoResponse tag : value.tags()) {
+            if (tag == null) {
+                generator.writeNull();
+            } else {
+                tagSerializer.serialize(tag, generator, provider, path);
+            }
+        }
+        generator.writeEndArray();
+    }
+}
\ No newline at end of file
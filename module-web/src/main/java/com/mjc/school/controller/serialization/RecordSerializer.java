@@ -0,0 +1,76 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public abstract class RecordSerializer<T> extends StdSerializer<T> {
+
+    protected RecordSerializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        serialize(value, generator, provider, "");
+    }
+
+    public abstract void serialize(T value, JsonGenerator generator, SerializerProvider provider, String parent)
+            throws IOException;
+
+    protected static boolean includes(SerializerProvider provider, String parent, SerializedString name) {
+        return !(provider.getFilterProvider() instanceof SparseFieldset fieldset)
+                || fieldset.includes(parent, name.getValue());
+    }
+
+    protected static String childPath(SerializerProvider provider, String parent, SerializedString name) {
+        return provider.getFilterProvider() instanceof SparseFieldset ?
+                SparseFieldset.path(parent, name.getValue()) : parent;
+    }
+
+    protected static void writeNumberField(JsonGenerator generator, SerializerProvider provider, String parent,
+                                           SerializedString name, Long value) throws IOException {
+        if (!includes(provider, parent, name)) {
+            return;
+        }
+
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeStringField(JsonGenerator generator, SerializerProvider provider, String parent,
+                                           SerializedString name, String value) throws IOException {
+        if (!includes(provider, parent, name)) {
+            return;
+        }
+
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    protected static <V> void writeObjectField(JsonGenerator generator, SerializerProvider provider, String parent,
+                                               SerializedString name, V value, RecordSerializer<V> serializer)
+            throws IOException {
+        if (!includes(provider, parent, name)) {
+            return;
+        }
+
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            serializer.serialize(value, generator, provider, childPath(provider, parent, name));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.databind.ser.BeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@EqualsAndHashCode(callSuper = false)
+public class SparseFieldset extends FilterProvider {
+    private static final String ID = "id";
+
+    private final Set<String> fields;
+    @EqualsAndHashCode.Exclude
+    private final Set<String> parents;
+
+    private SparseFieldset(Set<String> fields) {
+        this.fields = fields;
+        this.parents = fields.stream()
+                .filter(field -> field.contains("."))
+                .map(field -> field.substring(0, field.lastIndexOf('.')))
+                .collect(Collectors.toSet());
+    }
+
+    public static SparseFieldset of(Collection<String> fields) {
+        if (fields == null) {
+            return null;
+        }
+
+        Set<String> names = fields.stream()
+                .flatMap(field -> Arrays.stream(field.split(",")))
+                .map(String::trim)
+                .filter(Predicate.not(String::isEmpty))
+                .collect(Collectors.toUnmodifiableSet());
+        return names.isEmpty() ? null : new SparseFieldset(names);
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    public boolean includes(String parent, String field) {
+        String path = path(parent, field);
+        if (ID.equals(field) || fields.contains(path) || parents.contains(path)) {
+            return true;
+        }
+
+        String ancestor = parent;
+        while (!ancestor.isEmpty()) {
+            if (fields.contains(ancestor) && !parents.contains(ancestor)) {
+                return true;
+            }
+            int separator = ancestor.lastIndexOf('.');
+            ancestor = separator < 0 ? "" : ancestor.substring(0, separator);
+        }
+        return false;
+    }
+
+    public static String path(String parent, String field) {
+        return parent.isEmpty() ? field : parent + "." + field;
+    }
+
+    @Override
+    @Deprecated
+    public BeanPropertyFilter findFilter(Object filterId) {
+        return null;
+    }
+}
\ No newline at end of file
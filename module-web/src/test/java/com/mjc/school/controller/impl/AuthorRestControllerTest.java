@@ -1,8 +1,13 @@
 package com.mjc.school.controller.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.mjc.school.service.AuthorPurgeService;
 import com.mjc.school.service.AuthorService;
 import com.mjc.school.service.dto.author.AuthorDtoRequest;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.author.AuthorNamesDtoRequest;
+import com.mjc.school.service.dto.author.AuthorPurgeJobDtoResponse;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +18,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +34,8 @@ class AuthorRestControllerTest {
     private static final String BASE_PATH = "/api/v1/authors";
     @MockBean
     private AuthorService authorService;
+    @MockBean
+    private AuthorPurgeService authorPurgeService;
     @Autowired
     private MockMvc mockMvc;
 
@@ -59,6 +68,33 @@ class AuthorRestControllerTest {
         verifyNoMoreInteractions(authorService);
     }
 
+    @Test
+    void readAllAsSmile() throws IOException {
+        doReturn(List.of(buildAuthorResponse(1L, "author1"), buildAuthorResponse(2L, "author2")))
+                .when(authorService).readAll(any());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        byte[] body = given()
+                .accept("application/x-jackson-smile")
+                .param("page", pageable.getPageNumber())
+                .param("size", pageable.getPageSize())
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .contentType("application/x-jackson-smile")
+                .statusCode(200)
+                .extract()
+                .asByteArray();
+
+        JsonNode authors = new SmileMapper().readTree(body);
+        assertThat(authors.size()).isEqualTo(2);
+        assertThat(authors.get(0).get("name").asText()).isEqualTo("author1");
+        assertThat(authors.get(1).get("id").asLong()).isEqualTo(2L);
+        verify(authorService).readAll(pageable);
+        verifyNoMoreInteractions(authorService);
+    }
+
     @Test
     void readAllWhenAuthorNotFound() {
         doReturn(List.of()).when(authorService).readAll(any());
@@ -78,6 +114,45 @@ class AuthorRestControllerTest {
         verifyNoMoreInteractions(authorService);
     }
 
+    @Test
+    void readAllByIds() {
+        doReturn(List.of(buildAuthorResponse(2L, "author2"), buildAuthorResponse(1L, "author1")))
+                .when(authorService).readAllByIds(any());
+
+        given()
+                .param("ids", "2,1")
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("size()", is(2))
+                .body("[0].name", is("author2"))
+                .body("[1].name", is("author1"))
+                .statusCode(200);
+
+        verify(authorService).readAllByIds(List.of(2L, 1L));
+        verifyNoMoreInteractions(authorService);
+    }
+
+    @Test
+    void searchByName() {
+        doReturn(List.of(buildAuthorResponse(1L, "author1"))).when(authorService).searchByName(any(), any());
+
+        given()
+                .param("name", "thor")
+                .param("size", 5)
+                .when()
+                .get(BASE_PATH + "/search")
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].name", is("author1"))
+                .statusCode(200);
+
+        verify(authorService).searchByName("thor", PageRequest.of(0, 5));
+        verifyNoMoreInteractions(authorService);
+    }
+
     @Test
     void readById() {
         doReturn(Optional.of(buildAuthorResponse(1L, "author1"))).when(authorService).readById(1L);
@@ -130,6 +205,46 @@ class AuthorRestControllerTest {
         verifyNoMoreInteractions(authorService);
     }
 
+    @Test
+    void readOrCreateAllByNames() {
+        doReturn(List.of(buildAuthorResponse(2L, "author2"), buildAuthorResponse(1L, "author1")))
+                .when(authorService).readOrCreateAllByNames(any());
+        AuthorNamesDtoRequest request = AuthorNamesDtoRequest.builder().names(List.of("author2", "author1")).build();
+
+        given()
+                .contentType("application/json")
+                .body(request)
+                .when()
+                .post(BASE_PATH + "/upsert")
+                .then()
+                .assertThat()
+                .body("size()", is(2))
+                .body("[0].id", is(2))
+                .body("[1].name", is("author1"))
+                .statusCode(200);
+
+        verify(authorService).readOrCreateAllByNames(request);
+        verifyNoMoreInteractions(authorService);
+    }
+
+    @Test
+    void readOrCreateAllByNamesWhenNameIsInvalid() {
+        AuthorNamesDtoRequest request = AuthorNamesDtoRequest.builder().names(List.of("author1", "as")).build();
+
+        given()
+                .contentType("application/json")
+                .body(request)
+                .when()
+                .post(BASE_PATH + "/upsert")
+                .then()
+                .assertThat()
+                .body("errors.size()", is(1))
+                .body(containsString("names[1]"))
+                .statusCode(400);
+
+        verifyNoMoreInteractions(authorService);
+    }
+
     @Test
     void createWhenAuthorDtoIsInvalid() {
         AuthorDtoRequest request = buildAuthorRequest("as");
@@ -272,6 +387,73 @@ class AuthorRestControllerTest {
         verifyNoMoreInteractions(authorService);
     }
 
+    @Test
+    void purge() {
+        doReturn(Optional.of(buildPurgeJobResponse("PENDING", 0)))
+                .when(authorPurgeService).purge(any(), any());
+
+        given()
+                .param("targetAuthorId", 2)
+                .when()
+                .post(BASE_PATH + "/{id}/purge", 1)
+                .then()
+                .assertThat()
+                .body("id", is(1))
+                .body("authorId", is(1))
+                .body("targetAuthorId", is(2))
+                .body("status", is("PENDING"))
+                .statusCode(202);
+
+        verify(authorPurgeService).purge(1L, 2L);
+        verifyNoMoreInteractions(authorPurgeService, authorService);
+    }
+
+    @Test
+    void purgeWhenAuthorNotFound() {
+        doReturn(Optional.empty()).when(authorPurgeService).purge(any(), any());
+
+        given()
+                .when()
+                .post(BASE_PATH + "/{id}/purge", 1)
+                .then()
+                .assertThat()
+                .statusCode(404);
+
+        verify(authorPurgeService).purge(1L, null);
+        verifyNoMoreInteractions(authorPurgeService, authorService);
+    }
+
+    @Test
+    void readPurgeJobById() {
+        doReturn(Optional.of(buildPurgeJobResponse("RUNNING", 500)))
+                .when(authorPurgeService).readById(any());
+
+        given()
+                .when()
+                .get(BASE_PATH + "/purges/{id}", 1)
+                .then()
+                .assertThat()
+                .body("id", is(1))
+                .body("status", is("RUNNING"))
+                .body("processedNews", is(500))
+                .body("totalNews", is(1000))
+                .statusCode(200);
+
+        verify(authorPurgeService).readById(1L);
+        verifyNoMoreInteractions(authorPurgeService, authorService);
+    }
+
+    private AuthorPurgeJobDtoResponse buildPurgeJobResponse(String status, long processedNews) {
+        return AuthorPurgeJobDtoResponse.builder()
+                .id(1L)
+                .authorId(1L)
+                .targetAuthorId(2L)
+                .status(status)
+                .processedNews(processedNews)
+                .totalNews(1000)
+                .build();
+    }
+
     private AuthorDtoResponse buildAuthorResponse(Long id, String name) {
         return AuthorDtoResponse.builder()
                 .id(id)
@@ -0,0 +1,187 @@
+package com.mjc.school.controller.impl;
+
+import com.mjc.school.controller.batch.BatchExecutor;
+import com.mjc.school.service.AuthorService;
+import com.mjc.school.service.CommentService;
+import com.mjc.school.service.NewsService;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.author.AuthorDtoRequest;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoRequest;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@WebMvcTest(BatchRestController.class)
+@Import(BatchExecutor.class)
+class BatchRestControllerTest {
+    private static final String BASE_PATH = "/api/v1/batch";
+    @MockBean
+    private NewsService newsService;
+    @MockBean
+    private AuthorService authorService;
+    @MockBean
+    private TagService tagService;
+    @MockBean
+    private CommentService commentService;
+    @MockBean
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.mockMvc(mockMvc);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void execute() {
+        doReturn(AuthorDtoResponse.builder().id(7L).name("author1").build()).when(authorService).create(any());
+        doReturn(Optional.of(AuthorDtoResponse.builder().id(7L).name("author7").build()))
+                .when(authorService).readCurrentById(7L);
+        doReturn(AuthorDtoResponse.builder().id(7L).name("author2").build()).when(authorService).patch(any(), any());
+        doReturn(true).when(authorService).deleteById(any());
+        doReturn(Optional.of(TagDtoResponse.builder().id(3L).name("tag3").build())).when(tagService).update(any(), any());
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        {"operations": [
+                          {"method": "CREATE", "resource": "authors", "body": {"name": "author1"}},
+                          {"method": "PATCH", "resource": "authors", "id": "$1.id",
+                           "body": [{"op": "replace", "path": "/name", "value": "author2"}]},
+                          {"method": "UPDATE", "resource": "tags", "id": 3, "body": {"name": "tag3"}},
+                          {"method": "DELETE", "resource": "authors", "id": "$2.id"}
+                        ]}""")
+                .when()
+                .post(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("size()", is(4))
+                .body("[0].status", is(201))
+                .body("[0].body.id", is(7))
+                .body("[1].status", is(200))
+                .body("[1].body.name", is("author2"))
+                .body("[2].body.name", is("tag3"))
+                .body("[3].status", is(204))
+                .statusCode(200);
+
+        verify(authorService).create(AuthorDtoRequest.builder().name("author1").build());
+        verify(authorService).readCurrentById(7L);
+        verify(authorService).patch(7L, AuthorDtoRequest.builder().name("author2").build());
+        verify(tagService).update(3L, TagDtoRequest.builder().name("tag3").build());
+        verify(authorService).deleteById(7L);
+        verifyNoMoreInteractions(authorService, tagService);
+    }
+
+    @Test
+    void executeWhenOperationIsInvalid() {
+        doReturn(AuthorDtoResponse.builder().id(7L).name("author1").build()).when(authorService).create(any());
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        {"operations": [
+                          {"method": "CREATE", "resource": "authors", "body": {"name": "author1"}},
+                          {"method": "CREATE", "resource": "tags", "body": {"name": "t"}}
+                        ]}""")
+                .when()
+                .post(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("message", containsString("Operation 1 failed"))
+                .body(containsString("name"))
+                .statusCode(400);
+
+        verify(authorService).create(AuthorDtoRequest.builder().name("author1").build());
+        verifyNoInteractions(tagService);
+    }
+
+    @Test
+    void executeWhenReferenceIsUnresolvable() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        {"operations": [
+                          {"method": "DELETE", "resource": "news", "id": "$1.id"}
+                        ]}""")
+                .when()
+                .post(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("message", containsString("Operation 0 failed"))
+                .statusCode(400);
+
+        verifyNoInteractions(newsService);
+    }
+
+    @Test
+    void executeWhenResourceNotFound() {
+        doReturn(Optional.empty()).when(tagService).update(any(), any());
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        {"operations": [
+                          {"method": "UPDATE", "resource": "tags", "id": 3, "body": {"name": "tag3"}}
+                        ]}""")
+                .when()
+                .post(BASE_PATH)
+                .then()
+                .assertThat()
+                .statusCode(404);
+    }
+
+    @Test
+    void executeWhenDeletedResourceNotFound() {
+        doReturn(false).when(newsService).deleteById(any());
+
+        given()
+                .contentType("application/json")
+                .body("""
+                        {"operations": [
+                          {"method": "DELETE", "resource": "news", "id": 3}
+                        ]}""")
+                .when()
+                .post(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("message", containsString("Operation 0 failed"))
+                .statusCode(404);
+
+        verify(newsService).deleteById(3L);
+    }
+
+    @Test
+    void executeWhenOperationsAreEmpty() {
+        given()
+                .contentType("application/json")
+                .body("{\"operations\": []}")
+                .when()
+                .post(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("errors.size()", is(1))
+                .statusCode(400);
+
+        verifyNoInteractions(transactionTemplate);
+    }
+}
\ No newline at end of file
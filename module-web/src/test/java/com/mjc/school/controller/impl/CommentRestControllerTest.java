@@ -19,10 +19,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -71,6 +74,30 @@ class CommentRestControllerTest {
         verifyNoMoreInteractions(commentService);
     }
 
+    @Test
+    void readAllWithSparseFieldset() {
+        doReturn(List.of(buildCommentResponse(1L, "comment1", 1L)))
+                .when(commentService).readAll(any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        given()
+                .param("page", pageable.getPageNumber())
+                .param("size", pageable.getPageSize())
+                .param("fields", "content")
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].id", is(1))
+                .body("[0].content", is("comment1"))
+                .body("[0]", not(hasKey("news")))
+                .statusCode(200);
+
+        verify(commentService).readAll(pageable, Set.of("content"));
+        verifyNoMoreInteractions(commentService);
+    }
+
     @Test
     void readAllWhenCommentNotFound() {
         doReturn(List.of()).when(commentService).readAll(any());
@@ -1,18 +1,35 @@
 package com.mjc.school.controller.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.mjc.school.controller.cache.SerializedResponseCache;
 import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.model.Author;
 import com.mjc.school.repository.model.Tag;
+import com.mjc.school.repository.model.UnknownFieldException;
 import com.mjc.school.service.AuthorService;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.NewsBodyService;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.NewsViewService;
 import com.mjc.school.service.TagService;
+import com.mjc.school.service.compression.DeflateCodec;
+import com.mjc.school.service.cursor.InvalidCursorException;
 import com.mjc.school.service.dto.author.AuthorDtoResponse;
 import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.comment.CommentPageDtoResponse;
+import com.mjc.school.service.dto.comment.CommentSummaryDtoResponse;
+import com.mjc.school.service.dto.news.NewsBodyDtoResponse;
 import com.mjc.school.service.dto.news.NewsDtoRequest;
+import com.mjc.school.service.dto.news.FacetCountDtoResponse;
 import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFacetsDtoResponse;
+import com.mjc.school.service.dto.news.NewsFilterDtoResponse;
 import com.mjc.school.service.dto.news.NewsQueryParams;
+import com.mjc.school.service.dto.page.PageDtoResponse;
+import com.mjc.school.service.dto.page.TotalMode;
+import com.mjc.school.service.dto.news.NewsVersionDtoResponse;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
 import com.mjc.school.service.validator.AuthorInfoValidator;
 import com.mjc.school.service.validator.TagsInfoValidator;
@@ -22,27 +39,41 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
-@WebMvcTest(NewsRestController.class)
+@WebMvcTest(controllers = NewsRestController.class, properties = "app.news-body.max-length=16")
+@Import(SerializedResponseCache.class)
 class NewsRestControllerTest {
     private static final String BASE_PATH = "/api/v1/news";
+    private static final LocalDateTime VERSION = LocalDateTime.of(2023, 1, 1, 12, 0);
     @MockBean
     private AuthorRepository authorRepository;
     @MockBean
     private NewsService newsService;
     @MockBean
+    private NewsBodyService newsBodyService;
+    @MockBean
+    private NewsViewService newsViewService;
+    @MockBean
     private AuthorService authorService;
     @MockBean
     private TagService tagService;
@@ -57,13 +88,18 @@ class NewsRestControllerTest {
     @MockBean
     private TagRepository tagRepository;
 
+    @Autowired
+    private SerializedResponseCache serializedResponseCache;
+
     @BeforeEach
     void setUp() {
         RestAssuredMockMvc.mockMvc(mockMvc);
+        serializedResponseCache.clear();
     }
 
     @Test
     void readAll() {
+        doReturn(2L).when(newsService).readVersion();
         doReturn(List.of(buildNewsResponse(1L, "title1", "content1"),
                 buildNewsResponse(2L, "title2", "content2")))
                 .when(newsService).readAll(any());
@@ -85,12 +121,56 @@ class NewsRestControllerTest {
                 .body("[1].title", is("title2"))
                 .statusCode(200);
 
+        verify(newsService).readVersion();
         verify(newsService).readAll(pageable);
         verifyNoMoreInteractions(newsService);
     }
 
+    @Test
+    void readAllWithSparseFieldset() {
+        doReturn(2L).when(newsService).readVersion();
+        doReturn(List.of(buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readAll(any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        given()
+                .param("page", pageable.getPageNumber())
+                .param("size", pageable.getPageSize())
+                .param("fields", "title,author.name")
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].id", is(1))
+                .body("[0].title", is("title1"))
+                .body("[0].author.id", is(1))
+                .body("[0]", not(hasKey("content")))
+                .body("[0]", not(hasKey("tags")))
+                .statusCode(200);
+
+        verify(newsService).readVersion();
+        verify(newsService).readAll(pageable, Set.of("title", "author.name"));
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readAllWithUnknownField() {
+        doReturn(2L).when(newsService).readVersion();
+        doThrow(new UnknownFieldException("unknown")).when(newsService).readAll(any(), any());
+
+        given()
+                .param("fields", "unknown")
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .statusCode(400);
+    }
+
     @Test
     void readAllWhenNewsNotFound() {
+        doReturn(0L).when(newsService).readVersion();
         doReturn(List.of()).when(newsService).readAll(any());
         Pageable pageable = PageRequest.of(0, 10);
 
@@ -104,12 +184,35 @@ class NewsRestControllerTest {
                 .body("size()", is(0))
                 .statusCode(200);
 
+        verify(newsService).readVersion();
         verify(newsService).readAll(pageable);
         verifyNoMoreInteractions(newsService);
     }
 
+    @Test
+    void readAllByIds() {
+        doReturn(List.of(buildNewsResponse(2L, "title2", "content2"), buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readAllByIds(any());
+
+        given()
+                .param("ids", "2,1")
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("size()", is(2))
+                .body("[0].id", is(2))
+                .body("[0].content", is("content2"))
+                .body("[1].id", is(1))
+                .statusCode(200);
+
+        verify(newsService).readAllByIds(List.of(2L, 1L));
+        verifyNoMoreInteractions(newsService);
+    }
+
     @Test
     void readById() {
+        doReturn(Optional.of(buildVersion(1L))).when(newsService).readVersionById(any());
         doReturn(Optional.of(buildNewsResponse(1L, "title1", "content1")))
                 .when(newsService).readById(any());
 
@@ -123,13 +226,124 @@ class NewsRestControllerTest {
                 .body("title", is("title1"))
                 .statusCode(200);
 
+        verify(newsService).readVersionById(1L);
+        verify(newsService).readById(1L);
+        verify(newsViewService).registerView(1L);
+        verifyNoMoreInteractions(newsService, newsViewService);
+    }
+
+    @Test
+    void readMostViewed() {
+        doReturn(List.of(buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readMostViewed(any());
+
+        given()
+                .param("size", 5)
+                .when()
+                .get(BASE_PATH + "/most-viewed")
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].id", is(1))
+                .statusCode(200);
+
+        verify(newsService).readMostViewed(PageRequest.of(0, 5));
+        verifyNoMoreInteractions(newsService);
+        verifyNoInteractions(newsViewService);
+    }
+
+    @Test
+    void readByIdFromSerializedResponseCache() {
+        doReturn(Optional.of(buildVersion(1L))).when(newsService).readVersionById(any());
+        doReturn(Optional.of(buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readById(any());
+
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .when()
+                    .get(BASE_PATH + "/{id}", 1)
+                    .then()
+                    .assertThat()
+                    .body("id", is(1))
+                    .body("title", is("title1"))
+                    .statusCode(200);
+        }
+
+        verify(newsService, times(2)).readVersionById(1L);
+        verify(newsService).readById(1L);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readByIdReserializedWhenCountersChange() {
+        doReturn(Optional.of(buildVersion(1L)))
+                .doReturn(Optional.of(new NewsVersionDtoResponse(VERSION, 1L, 0L, 1L)))
+                .when(newsService).readVersionById(any());
+        doReturn(Optional.of(buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readById(any());
+
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .when()
+                    .get(BASE_PATH + "/{id}", 1)
+                    .then()
+                    .assertThat()
+                    .statusCode(200);
+        }
+
+        verify(newsService, times(2)).readVersionById(1L);
+        verify(newsService, times(2)).readById(1L);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readByIdWithGzipEncoding() {
+        doReturn(Optional.of(buildVersion(1L))).when(newsService).readVersionById(any());
+        doReturn(Optional.of(buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readById(any());
+
+        given()
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .get(BASE_PATH + "/{id}", 1)
+                .then()
+                .assertThat()
+                .header("Content-Encoding", "gzip")
+                .statusCode(200);
+
+        verify(newsService).readVersionById(1L);
+        verify(newsService).readById(1L);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readByIdAsCbor() throws IOException {
+        doReturn(Optional.of(buildVersion(1L))).when(newsService).readVersionById(any());
+        doReturn(Optional.of(buildNewsResponse(1L, "title1", "content1")))
+                .when(newsService).readById(any());
+
+        byte[] body = given()
+                .accept("application/cbor")
+                .when()
+                .get(BASE_PATH + "/{id}", 1)
+                .then()
+                .assertThat()
+                .contentType("application/cbor")
+                .statusCode(200)
+                .extract()
+                .asByteArray();
+
+        JsonNode news = new CBORMapper().readTree(body);
+        assertThat(news.get("id").asLong()).isEqualTo(1L);
+        assertThat(news.get("title").asText()).isEqualTo("title1");
+        verify(newsService).readVersionById(1L);
         verify(newsService).readById(1L);
         verifyNoMoreInteractions(newsService);
     }
 
     @Test
     void readByIdWhenNewsNotFound() {
-        doReturn(Optional.empty()).when(newsService).readById(any());
+        doReturn(Optional.empty()).when(newsService).readVersionById(any());
 
         given()
                 .when()
@@ -138,8 +352,9 @@ class NewsRestControllerTest {
                 .assertThat()
                 .statusCode(404);
 
-        verify(newsService).readById(1L);
+        verify(newsService).readVersionById(1L);
         verifyNoMoreInteractions(newsService);
+        verifyNoInteractions(newsViewService);
     }
 
     @Test
@@ -339,6 +554,151 @@ class NewsRestControllerTest {
         verifyNoMoreInteractions(newsService);
     }
 
+    @Test
+    void readAllByFilterWhenFacetsDisabled() {
+        doReturn(List.of(buildNewsResponse(1L, "title1", "content1"))).when(newsService).readAllByFilter(any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+        NewsQueryParams filter = NewsQueryParams.builder().title("title1").build();
+
+        given()
+                .queryParam("title", filter.title())
+                .queryParam("facets", false)
+                .when()
+                .get(BASE_PATH + "/filter")
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("get(0).id", is(1))
+                .statusCode(200);
+
+        verify(newsService).readAllByFilter(filter, pageable);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readAllByFilterWithDateRange() {
+        doReturn(List.of(buildNewsResponse(1L, "title1", "content1"))).when(newsService).readAllByFilter(any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+        NewsQueryParams filter = NewsQueryParams.builder()
+                .tagIds(List.of(1L))
+                .createdFrom(LocalDateTime.of(2023, 1, 1, 0, 0))
+                .createdTo(LocalDateTime.of(2023, 1, 2, 0, 0))
+                .updatedSince(LocalDateTime.of(2023, 1, 1, 12, 30))
+                .build();
+
+        given()
+                .queryParam("tagIds", 1)
+                .queryParam("createdFrom", "2023-01-01T00:00:00")
+                .queryParam("createdTo", "2023-01-02T00:00:00")
+                .queryParam("updatedSince", "2023-01-01T12:30:00")
+                .queryParam("page", pageable.getPageNumber())
+                .queryParam("size", pageable.getPageSize())
+                .when()
+                .get(BASE_PATH + "/filter")
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("get(0).id", is(1))
+                .statusCode(200);
+
+        verify(newsService).readAllByFilter(filter, pageable);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readPage() {
+        PageDtoResponse<NewsDtoResponse> response = PageDtoResponse.<NewsDtoResponse>builder()
+                .content(List.of(buildNewsResponse(1L, "title1", "content1")))
+                .page(0)
+                .size(10)
+                .total(120L)
+                .totalMode(TotalMode.ESTIMATED)
+                .build();
+        doReturn(response).when(newsService).readPage(any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        given()
+                .queryParam("total", "ESTIMATED")
+                .queryParam("page", pageable.getPageNumber())
+                .queryParam("size", pageable.getPageSize())
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("content.size()", is(1))
+                .body("content[0].id", is(1))
+                .body("total", is(120))
+                .body("totalMode", is("ESTIMATED"))
+                .statusCode(200);
+
+        verify(newsService).readPage(pageable, TotalMode.ESTIMATED);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readPageByFilter() {
+        PageDtoResponse<NewsDtoResponse> response = PageDtoResponse.<NewsDtoResponse>builder()
+                .content(List.of(buildNewsResponse(1L, "title1", "content1")))
+                .page(0)
+                .size(10)
+                .total(1L)
+                .totalMode(TotalMode.EXACT)
+                .build();
+        doReturn(response).when(newsService).readPageByFilter(any(), any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+        NewsQueryParams filter = NewsQueryParams.builder().title("title1").build();
+
+        given()
+                .queryParam("title", filter.title())
+                .queryParam("total", "EXACT")
+                .queryParam("page", pageable.getPageNumber())
+                .queryParam("size", pageable.getPageSize())
+                .when()
+                .get(BASE_PATH + "/filter")
+                .then()
+                .assertThat()
+                .body("content[0].title", is("title1"))
+                .body("total", is(1))
+                .body("totalMode", is("EXACT"))
+                .statusCode(200);
+
+        verify(newsService).readPageByFilter(filter, pageable, TotalMode.EXACT);
+        verifyNoMoreInteractions(newsService);
+    }
+
+    @Test
+    void readAllByFilterWithFacets() {
+        NewsFilterDtoResponse response = NewsFilterDtoResponse.builder()
+                .content(List.of(buildNewsResponse(1L, "title1", "content1")))
+                .facets(NewsFacetsDtoResponse.builder()
+                        .tags(List.of(FacetCountDtoResponse.builder().id(1L).name("tag1").count(4L).build()))
+                        .authors(List.of(FacetCountDtoResponse.builder().id(2L).name("author2").count(1L).build()))
+                        .build())
+                .build();
+        doReturn(response).when(newsService).readAllByFilterWithFacets(any(), any());
+        Pageable pageable = PageRequest.of(0, 10);
+        NewsQueryParams filter = NewsQueryParams.builder().title("title1").build();
+
+        given()
+                .queryParam("title", filter.title())
+                .queryParam("facets", true)
+                .queryParam("page", pageable.getPageNumber())
+                .queryParam("size", pageable.getPageSize())
+                .when()
+                .get(BASE_PATH + "/filter")
+                .then()
+                .assertThat()
+                .body("content.size()", is(1))
+                .body("content[0].id", is(1))
+                .body("facets.tags[0].name", is("tag1"))
+                .body("facets.tags[0].count", is(4))
+                .body("facets.authors[0].id", is(2))
+                .statusCode(200);
+
+        verify(newsService).readAllByFilterWithFacets(filter, pageable);
+        verifyNoMoreInteractions(newsService);
+    }
+
     @Test
     void readAllByFilterWhenNewsNotFound() {
         doReturn(List.of()).when(newsService).readAllByFilter(any(), any());
@@ -430,12 +790,32 @@ class NewsRestControllerTest {
         verifyNoMoreInteractions(tagService);
     }
 
+    @Test
+    void readRelated() {
+        doReturn(List.of(buildNewsResponse(2L, "title2", "content2")))
+                .when(newsService).readRelated(any());
+
+        given()
+                .when()
+                .get(BASE_PATH + "/{id}/related", 1)
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].id", is(2))
+                .body("[0].title", is("title2"))
+                .statusCode(200);
+
+        verify(newsService).readRelated(1L);
+        verifyNoMoreInteractions(newsService);
+    }
+
     @Test
     void readAllCommentsByNewsId() {
         doReturn(List.of(buildCommentResponse()))
-                .when(commentService).readAllByNewsId(any());
+                .when(commentService).readAllByNewsId(any(), any(), any());
 
         given()
+                .param("fields", "content,news.title")
                 .when()
                 .get(BASE_PATH + "/{id}/comments", 1)
                 .then()
@@ -446,15 +826,16 @@ class NewsRestControllerTest {
                 .body("[0].news.id", is(1))
                 .statusCode(200);
 
-        verify(commentService).readAllByNewsId(1L);
+        verify(commentService).readAllByNewsId(1L, PageRequest.of(0, 20), Set.of("content", "news.title"));
         verifyNoMoreInteractions(commentService);
     }
 
     @Test
     void readAllCommentsByNewsIdWhenNewsNotFound() {
-        doReturn(List.of()).when(commentService).readAllByNewsId(any());
+        doReturn(List.of()).when(commentService).readAllByNewsId(any(), any(), any());
 
         given()
+                .param("fields", "content")
                 .when()
                 .get(BASE_PATH + "/{id}/comments", 1)
                 .then()
@@ -462,10 +843,168 @@ class NewsRestControllerTest {
                 .body("size()", is(0))
                 .statusCode(200);
 
-        verify(commentService).readAllByNewsId(1L);
+        verify(commentService).readAllByNewsId(1L, PageRequest.of(0, 20), Set.of("content"));
+        verifyNoMoreInteractions(commentService);
+    }
+
+    @Test
+    void readCommentPageByNewsIdByDefault() {
+        doReturn(CommentPageDtoResponse.builder().content(List.of()).build())
+                .when(commentService).readPageByNewsId(any(), any(), any());
+
+        given()
+                .when()
+                .get(BASE_PATH + "/{id}/comments", 1)
+                .then()
+                .assertThat()
+                .body("content.size()", is(0))
+                .statusCode(200);
+
+        verify(commentService).readPageByNewsId(1L, null, PageRequest.of(0, 20));
+        verifyNoMoreInteractions(commentService);
+    }
+
+    @Test
+    void readCommentPageByNewsId() {
+        Pageable pageable = PageRequest.of(0, 1);
+        CommentPageDtoResponse page = CommentPageDtoResponse.builder()
+                .content(List.of(CommentSummaryDtoResponse.builder().id(1L).content("comment1").createdDate(VERSION).build()))
+                .nextCursor("next")
+                .build();
+        doReturn(page).when(commentService).readPageByNewsId(any(), any(), any());
+
+        given()
+                .param("page", pageable.getPageNumber())
+                .param("size", pageable.getPageSize())
+                .when()
+                .get(BASE_PATH + "/{id}/comments", 1)
+                .then()
+                .assertThat()
+                .body("content.size()", is(1))
+                .body("content[0].id", is(1))
+                .body("content[0].content", is("comment1"))
+                .body("content[0]", not(hasKey("news")))
+                .body("nextCursor", is("next"))
+                .statusCode(200);
+
+        verify(commentService).readPageByNewsId(1L, null, pageable);
         verifyNoMoreInteractions(commentService);
     }
 
+    @Test
+    void readCommentPageByNewsIdWithCursor() {
+        CommentPageDtoResponse page = CommentPageDtoResponse.builder().content(List.of()).build();
+        doReturn(page).when(commentService).readPageByNewsId(any(), any(), any());
+
+        given()
+                .param("cursor", "next")
+                .when()
+                .get(BASE_PATH + "/{id}/comments", 1)
+                .then()
+                .assertThat()
+                .body("content.size()", is(0))
+                .statusCode(200);
+
+        verify(commentService).readPageByNewsId(1L, "next", PageRequest.of(0, 20));
+        verifyNoMoreInteractions(commentService);
+    }
+
+    @Test
+    void readCommentPageByNewsIdWithInvalidCursor() {
+        doThrow(new InvalidCursorException("invalid")).when(commentService).readPageByNewsId(any(), any(), any());
+
+        given()
+                .param("cursor", "invalid")
+                .when()
+                .get(BASE_PATH + "/{id}/comments", 1)
+                .then()
+                .assertThat()
+                .statusCode(400);
+    }
+
+    @Test
+    void readBodyByNewsId() {
+        doReturn(Optional.of(DeflateCodec.compress("full body"))).when(newsBodyService).readCompressedByNewsId(any());
+
+        given()
+                .when()
+                .get(BASE_PATH + "/{id}/body", 1)
+                .then()
+                .assertThat()
+                .contentType("text/plain;charset=UTF-8")
+                .body(equalTo("full body"))
+                .statusCode(200);
+
+        verify(newsBodyService).readCompressedByNewsId(1L);
+        verifyNoMoreInteractions(newsBodyService);
+    }
+
+    @Test
+    void readBodyByNewsIdWithDeflateEncoding() {
+        doReturn(Optional.of(DeflateCodec.compress("full body"))).when(newsBodyService).readCompressedByNewsId(any());
+
+        given()
+                .header("Accept-Encoding", "gzip, deflate")
+                .when()
+                .get(BASE_PATH + "/{id}/body", 1)
+                .then()
+                .assertThat()
+                .header("Content-Encoding", "deflate")
+                .statusCode(200);
+
+        verify(newsBodyService).readCompressedByNewsId(1L);
+        verifyNoMoreInteractions(newsBodyService);
+    }
+
+    @Test
+    void readBodyByNewsIdWhenBodyNotFound() {
+        doReturn(Optional.empty()).when(newsBodyService).readCompressedByNewsId(any());
+
+        given()
+                .when()
+                .get(BASE_PATH + "/{id}/body", 1)
+                .then()
+                .assertThat()
+                .statusCode(404);
+
+        verify(newsBodyService).readCompressedByNewsId(1L);
+        verifyNoMoreInteractions(newsBodyService);
+    }
+
+    @Test
+    void updateBody() {
+        doReturn(Optional.of(NewsBodyDtoResponse.builder().newsId(1L).length(9).compressedLength(17).build()))
+                .when(newsBodyService).update(any(), any());
+
+        given()
+                .contentType("text/plain")
+                .body("full body")
+                .when()
+                .put(BASE_PATH + "/{id}/body", 1)
+                .then()
+                .assertThat()
+                .body("newsId", is(1))
+                .body("length", is(9))
+                .statusCode(200);
+
+        verify(newsBodyService).update(1L, "full body");
+        verifyNoMoreInteractions(newsBodyService);
+    }
+
+    @Test
+    void updateBodyWhenBodyIsTooLarge() {
+        given()
+                .contentType("text/plain")
+                .body("a much too long full body")
+                .when()
+                .put(BASE_PATH + "/{id}/body", 1)
+                .then()
+                .assertThat()
+                .statusCode(413);
+
+        verifyNoInteractions(newsBodyService);
+    }
+
     private NewsDtoResponse buildNewsResponse(Long id, String title, String content) {
         return NewsDtoResponse.builder()
                 .id(id)
@@ -475,6 +1014,15 @@ class NewsRestControllerTest {
                 .build();
     }
 
+    private NewsVersionDtoResponse buildVersion(long count) {
+        return NewsVersionDtoResponse.builder()
+                .lastUpdatedDate(VERSION)
+                .count(count)
+                .commentCount(0L)
+                .viewCount(0L)
+                .build();
+    }
+
     private NewsDtoRequest buildNewsRequest() {
         return NewsDtoRequest.builder()
                 .title("title1")
@@ -3,6 +3,10 @@ package com.mjc.school.controller.impl;
 import com.mjc.school.service.TagService;
 import com.mjc.school.service.dto.tag.TagDtoRequest;
 import com.mjc.school.service.dto.tag.TagDtoResponse;
+import com.mjc.school.service.dto.tag.TagNamesDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoRequest;
+import com.mjc.school.service.dto.tag.TagNewsDtoResponse;
+import com.mjc.school.service.dto.tag.TrendingTagDtoResponse;
 import io.restassured.http.ContentType;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import org.junit.jupiter.api.BeforeEach;
@@ -80,6 +84,26 @@ class TagRestControllerTest {
         verifyNoMoreInteractions(tagService);
     }
 
+    @Test
+    void readAllByIds() {
+        doReturn(List.of(buildTagResponse(3L, "tag3"), buildTagResponse(1L, "tag1")))
+                .when(tagService).readAllByIds(any());
+
+        given()
+                .param("ids", "3,1")
+                .when()
+                .get(BASE_PATH)
+                .then()
+                .assertThat()
+                .body("size()", is(2))
+                .body("[0].id", is(3))
+                .body("[1].id", is(1))
+                .statusCode(200);
+
+        verify(tagService).readAllByIds(List.of(3L, 1L));
+        verifyNoMoreInteractions(tagService);
+    }
+
     @Test
     void readById() {
         doReturn(Optional.of(buildTagResponse(1L, "tag1")))
@@ -133,6 +157,28 @@ class TagRestControllerTest {
         verifyNoMoreInteractions(tagService);
     }
 
+    @Test
+    void readOrCreateAllByNames() {
+        doReturn(List.of(buildTagResponse(5L, "tag5"), buildTagResponse(1L, "tag1")))
+                .when(tagService).readOrCreateAllByNames(any());
+        TagNamesDtoRequest request = TagNamesDtoRequest.builder().names(List.of("tag5", "tag1", "tag5")).build();
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post(BASE_PATH + "/upsert")
+                .then()
+                .assertThat()
+                .body("size()", is(2))
+                .body("[0].id", is(5))
+                .body("[1].name", is("tag1"))
+                .statusCode(200);
+
+        verify(tagService).readOrCreateAllByNames(request);
+        verifyNoMoreInteractions(tagService);
+    }
+
     @Test
     void createWhenTagDtoIsInvalid() {
         TagDtoRequest request = buildTagRequest("");
@@ -274,6 +320,186 @@ class TagRestControllerTest {
         verifyNoMoreInteractions(tagService);
     }
 
+    @Test
+    void suggest() {
+        doReturn(List.of(buildTagResponse(1L, "java"))).when(tagService).suggest(any(), anyInt());
+
+        given()
+                .param("prefix", "ja")
+                .param("limit", 5)
+                .when()
+                .get(BASE_PATH + "/suggest")
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].id", is(1))
+                .body("[0].name", is("java"))
+                .statusCode(200);
+
+        verify(tagService).suggest("ja", 5);
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void suggestWithoutPrefix() {
+        given()
+                .when()
+                .get(BASE_PATH + "/suggest")
+                .then()
+                .assertThat()
+                .statusCode(400);
+
+        verifyNoInteractions(tagService);
+    }
+
+    @Test
+    void readTrending() {
+        doReturn(List.of(TrendingTagDtoResponse.builder().id(1L).name("tag1").count(5).build()))
+                .when(tagService).readTrending();
+
+        given()
+                .when()
+                .get(BASE_PATH + "/trending")
+                .then()
+                .assertThat()
+                .body("size()", is(1))
+                .body("[0].id", is(1))
+                .body("[0].name", is("tag1"))
+                .body("[0].count", is(5))
+                .statusCode(200);
+
+        verify(tagService).readTrending();
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void attachToNews() {
+        doReturn(Optional.of(new TagNewsDtoResponse(1L, 2))).when(tagService).attachToNews(any(), any());
+        TagNewsDtoRequest request = TagNewsDtoRequest.builder()
+                .newsIds(List.of(1L, 2L))
+                .build();
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post(BASE_PATH + "/{id}/news", 1)
+                .then()
+                .assertThat()
+                .body("tagId", is(1))
+                .body("affected", is(2))
+                .statusCode(200);
+
+        verify(tagService).attachToNews(1L, request);
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void attachToNewsWhenTagNotFound() {
+        doReturn(Optional.empty()).when(tagService).attachToNews(any(), any());
+        TagNewsDtoRequest request = TagNewsDtoRequest.builder()
+                .newsIds(List.of(1L, 2L))
+                .build();
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post(BASE_PATH + "/{id}/news", 1)
+                .then()
+                .assertThat()
+                .statusCode(404);
+
+        verify(tagService).attachToNews(1L, request);
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void attachToNewsWhenNothingIsSelected() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{}")
+                .when()
+                .post(BASE_PATH + "/{id}/news", 1)
+                .then()
+                .assertThat()
+                .body("errors.size()", is(1))
+                .body(containsString("newsIds"))
+                .statusCode(400);
+
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void attachToNewsWhenFilterIsEmpty() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"filter\":{}}")
+                .when()
+                .post(BASE_PATH + "/{id}/news", 1)
+                .then()
+                .assertThat()
+                .body("errors.size()", is(1))
+                .body(containsString("filter"))
+                .statusCode(400);
+
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void detachFromNews() {
+        doReturn(Optional.of(new TagNewsDtoResponse(1L, 2))).when(tagService).detachFromNews(any(), any());
+        TagNewsDtoRequest request = TagNewsDtoRequest.builder()
+                .newsIds(List.of(1L, 2L))
+                .build();
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .delete(BASE_PATH + "/{id}/news", 1)
+                .then()
+                .assertThat()
+                .body("tagId", is(1))
+                .body("affected", is(2))
+                .statusCode(200);
+
+        verify(tagService).detachFromNews(1L, request);
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void merge() {
+        doReturn(Optional.of(buildTagResponse(2L, "tag2"))).when(tagService).merge(any(), any());
+
+        given()
+                .when()
+                .post(BASE_PATH + "/{id}/merge/{targetId}", 1, 2)
+                .then()
+                .assertThat()
+                .body("id", is(2))
+                .body("name", is("tag2"))
+                .statusCode(200);
+
+        verify(tagService).merge(1L, 2L);
+        verifyNoMoreInteractions(tagService);
+    }
+
+    @Test
+    void mergeWhenTagNotFound() {
+        doReturn(Optional.empty()).when(tagService).merge(any(), any());
+
+        given()
+                .when()
+                .post(BASE_PATH + "/{id}/merge/{targetId}", 1, 2)
+                .then()
+                .assertThat()
+                .statusCode(404);
+
+        verify(tagService).merge(1L, 2L);
+        verifyNoMoreInteractions(tagService);
+    }
+
     private TagDtoResponse buildTagResponse(Long id, String name) {
         return TagDtoResponse.builder()
                 .id(id)
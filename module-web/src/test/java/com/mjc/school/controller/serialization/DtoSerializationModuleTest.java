@@ -0,0 +1,72 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.service.dto.author.AuthorDtoResponse;
+import com.mjc.school.service.dto.comment.CommentDtoResponse;
+import com.mjc.school.service.dto.news.NewsDtoResponse;
+import com.mjc.school.service.dto.tag.TagDtoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DtoSerializationModuleTest {
+    private final ObjectMapper stockMapper = new ObjectMapper();
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new DtoSerializationModule());
+
+    @Test
+    void serializeNews() throws JsonProcessingException {
+        NewsDtoResponse news = buildNewsResponse();
+
+        assertThat(moduleMapper.writeValueAsString(news)).isEqualTo(stockMapper.writeValueAsString(news));
+    }
+
+    @Test
+    void serializeNewsWithNullFields() throws JsonProcessingException {
+        NewsDtoResponse news = NewsDtoResponse.builder().id(1L).build();
+
+        assertThat(moduleMapper.writeValueAsString(news)).isEqualTo(stockMapper.writeValueAsString(news));
+    }
+
+    @Test
+    void serializeComments() throws JsonProcessingException {
+        List<CommentDtoResponse> comments = List.of(
+                CommentDtoResponse.builder().id(1L).content("comment1").news(buildNewsResponse()).build(),
+                CommentDtoResponse.builder().id(2L).content("comment \"2\"").build());
+
+        assertThat(moduleMapper.writeValueAsString(comments)).isEqualTo(stockMapper.writeValueAsString(comments));
+    }
+
+    @Test
+    void serializeNewsWithSparseFieldset() throws JsonProcessingException {
+        SparseFieldset fieldset = SparseFieldset.of(List.of("title,tags.name"));
+
+        assertThat(moduleMapper.writer(fieldset).writeValueAsString(buildNewsResponse()))
+                .isEqualTo("{\"id\":1,\"title\":\"title1\",\"tags\":[{\"id\":1,\"name\":\"tag1\"},{\"id\":2,\"name\":\"tag2\"}]}");
+    }
+
+    @Test
+    void serializeCommentsWithNestedNewsFieldset() throws JsonProcessingException {
+        CommentDtoResponse comment = CommentDtoResponse.builder().id(1L).content("comment1").news(buildNewsResponse()).build();
+        SparseFieldset fieldset = SparseFieldset.of(List.of("news.title"));
+
+        assertThat(moduleMapper.writer(fieldset).writeValueAsString(comment))
+                .isEqualTo("{\"id\":1,\"news\":{\"id\":1,\"title\":\"title1\"}}");
+    }
+
+    private NewsDtoResponse buildNewsResponse() {
+        return NewsDtoResponse.builder()
+                .id(1L)
+                .title("title1")
+                .content("content1")
+                .snippet("content")
+                .author(AuthorDtoResponse.builder().id(1L).name("author1").build())
+                .tags(List.of(TagDtoResponse.builder().id(1L).name("tag1").build(),
+                        TagDtoResponse.builder().id(2L).name("tag2").build()))
+                .commentCount(2L)
+                .viewCount(10L)
+                .build();
+    }
+}
\ No newline at end of file